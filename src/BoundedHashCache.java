@@ -0,0 +1,536 @@
+/**************************************************************************
+ * @file: BoundedHashCache.java
+ * @description: This program implements a size-bounded cache on top of
+ *               SeparateChainingHashMap, using W-TinyLFU eviction. New
+ *               entries enter a small LRU window; an entry leaving the
+ *               window is only admitted to the main segmented LRU if a
+ *               Count-Min sketch says it has been used more often than the
+ *               entry it would evict. Frequently used keys therefore stay
+ *               resident while one-off scans pass through the window.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.function.ToIntFunction;
+
+// BoundedHashCache class
+//
+// CONSTRUCTION: a maximum entry count, or a maximum weight and a weigher
+//
+// ******************PUBLIC OPERATIONS*********************
+// V get( k )                     --> Return k's value, or null; counts a hit or miss
+// V put( k, v )                  --> Map k to v, return the old value; may evict
+// V remove( k )                  --> Remove k, return its value
+// boolean containsKey( k )       --> Return true if k is cached (not counted)
+// int size( )                    --> Return the number of entries
+// long weightedSize( )           --> Return the total weight of the entries
+// void makeEmpty( )              --> Remove all entries
+// long hitCount( ), missCount( ), evictionCount( ) --> Return the counters
+// double hitRate( )              --> Return hits / (hits + misses)
+
+public class BoundedHashCache<K, V> {
+    /**
+     * Construct a cache holding at most maximumSize entries.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @throws IllegalArgumentException if maximumSize is negative.
+     */
+    public BoundedHashCache(long maximumSize) {
+        this(maximumSize, value -> 1, maximumSize);
+    }
+
+    /**
+     * Construct a cache whose entries' weights add up to at most maximumWeight.
+     *
+     * @param maximumWeight the maximum total weight.
+     * @param weigher       the function giving each value's weight (at least 0).
+     * @throws IllegalArgumentException if maximumWeight is negative.
+     */
+    public BoundedHashCache(long maximumWeight, ToIntFunction<? super V> weigher) {
+        this(maximumWeight, weigher, 0);
+    }
+
+    /**
+     * Construct a cache whose entries' weights add up to at most
+     * maximumWeight, with its frequency sketch sized for an expected
+     * number of entries. The sketch grows if more entries arrive.
+     *
+     * @param maximumWeight   the maximum total weight.
+     * @param weigher         the function giving each value's weight (at least 0).
+     * @param expectedEntries the number of entries the cache is expected to hold.
+     * @throws IllegalArgumentException if maximumWeight is negative.
+     */
+    private BoundedHashCache(long maximumWeight, ToIntFunction<? super V> weigher, long expectedEntries) {
+        if (maximumWeight < 0)
+            throw new IllegalArgumentException("maximumWeight must not be negative: " + maximumWeight);
+
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+
+        // About 1% of the weight goes to the window and 80% of the rest
+        // to the protected segment
+        maxWindowWeight = Math.max(1, maximumWeight / 100);
+        maxProtectedWeight = (maximumWeight - maxWindowWeight) * 4 / 5;
+
+        theMap = new SeparateChainingHashMap<>();
+        // The weight says nothing about how many keys there are, so the
+        // sketch is sized by entries, and grown in put as they arrive
+        sketch = new FrequencySketch((int) Math.min(expectedEntries, MAX_SKETCH_SIZE));
+        window = new Node<>(null, null, 0);
+        probation = new Node<>(null, null, 0);
+        protectedQueue = new Node<>(null, null, 0);
+        makeEmpty();
+    }
+
+    /**
+     * Look up a key, counting a hit or a miss and recording the access in
+     * the frequency sketch.
+     *
+     * @param key the key to look up.
+     * @return the cached value, or null if the key is not cached.
+     */
+    public V get(K key) {
+        sketch.increment(key.hashCode());
+
+        Node<K, V> node = theMap.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        onAccess(node);
+        return node.value;
+    }
+
+    /**
+     * Map a key to a value. A new entry starts in the window and may be
+     * evicted right away if the cache does not admit it.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the previous value, or null if the key was not cached.
+     */
+    public V put(K key, V value) {
+        sketch.increment(key.hashCode());
+        int weight = weigher.applyAsInt(value);
+
+        Node<K, V> node = theMap.get(key);
+        if (node != null) {
+            // Replace in place, adjusting the weight of its segment
+            V oldValue = node.value;
+            node.value = value;
+            addWeight(node, weight - node.weight);
+            node.weight = weight;
+            onAccess(node);
+            evict();
+            return oldValue;
+        }
+
+        node = new Node<>(key, value, weight);
+        theMap.put(key, node);
+        ensureSketchCapacity();
+        node.queue = WINDOW;
+        linkFirst(window, node);
+        addWeight(node, weight);
+        evict();
+        return null;
+    }
+
+    /**
+     * Remove a key from the cache.
+     *
+     * @param key the key to remove.
+     * @return the removed value, or null if the key was not cached.
+     */
+    public V remove(K key) {
+        Node<K, V> node = theMap.remove(key);
+        if (node == null)
+            return null;
+
+        unlink(node);
+        addWeight(node, -node.weight);
+        return node.value;
+    }
+
+    /**
+     * Check whether a key is cached, without counting a hit or miss or
+     * changing its position.
+     *
+     * @param key the key to search for.
+     * @return true if the key is cached.
+     */
+    public boolean containsKey(K key) {
+        return theMap.containsKey(key);
+    }
+
+    /**
+     * Return the number of cached entries.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return theMap.size();
+    }
+
+    /**
+     * Return the total weight of the cached entries.
+     *
+     * @return the weighted size.
+     */
+    public long weightedSize() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    /**
+     * Remove every entry. The counters and frequency sketch are kept.
+     */
+    public void makeEmpty() {
+        theMap.makeEmpty();
+        for (Node<K, V> head : new Node[] {window, probation, protectedQueue}) {
+            head.prev = head;
+            head.next = head;
+        }
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    /**
+     * Return the number of get() calls that found their key.
+     *
+     * @return the hit count.
+     */
+    public long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Return the number of get() calls that did not find their key.
+     *
+     * @return the miss count.
+     */
+    public long missCount() {
+        return misses;
+    }
+
+    /**
+     * Return the number of entries evicted (or refused admission) to stay
+     * within the maximum.
+     *
+     * @return the eviction count.
+     */
+    public long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Return the fraction of get() calls that were hits.
+     *
+     * @return the hit rate, or 0 if get() has not been called.
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Return the width of the frequency sketch. For tests.
+     *
+     * @return the number of longs in the sketch.
+     */
+    int sketchWidth() {
+        return sketch.width();
+    }
+
+    /**
+     * Move an entry to the most recently used end of its segment, promoting
+     * a probation entry to the protected segment.
+     *
+     * @param node the entry that was used.
+     */
+    private void onAccess(Node<K, V> node) {
+        unlink(node);
+        if (node.queue == PROBATION) {
+            // A second use earns a place in the protected segment
+            probationWeight -= node.weight;
+            node.queue = PROTECTED;
+            protectedWeight += node.weight;
+            linkFirst(protectedQueue, node);
+
+            // Demote the protected segment's LRU entries back to probation
+            while (protectedWeight > maxProtectedWeight && protectedQueue.prev != node) {
+                Node<K, V> demoted = protectedQueue.prev;
+                unlink(demoted);
+                protectedWeight -= demoted.weight;
+                demoted.queue = PROBATION;
+                probationWeight += demoted.weight;
+                linkFirst(probation, demoted);
+            }
+        } else {
+            linkFirst(node.queue == WINDOW ? window : protectedQueue, node);
+        }
+    }
+
+    /**
+     * Move entries that overflow the window into the main segments, if the
+     * sketch admits them, and evict until the total weight fits.
+     */
+    private void evict() {
+        while (windowWeight > maxWindowWeight) {
+            Node<K, V> candidate = window.prev;
+            unlink(candidate);
+            windowWeight -= candidate.weight;
+
+            // The candidate enters probation only if it beats the entry it
+            // would push out, so a scan of one-off keys can not flush the
+            // frequently used ones
+            long mainWeight = probationWeight + protectedWeight;
+            Node<K, V> victim = lastOf(probation) != null ? lastOf(probation) : lastOf(protectedQueue);
+            if (mainWeight + candidate.weight > maximumWeight - maxWindowWeight && victim != null
+                    && sketch.frequency(candidate.key.hashCode()) <= sketch.frequency(victim.key.hashCode())) {
+                theMap.remove(candidate.key);
+                evictions++;
+                continue;
+            }
+
+            candidate.queue = PROBATION;
+            probationWeight += candidate.weight;
+            linkFirst(probation, candidate);
+        }
+
+        // Evict least recently used entries, probation first, until the total fits
+        while (weightedSize() > maximumWeight) {
+            Node<K, V> victim = lastOf(probation);
+            if (victim == null)
+                victim = lastOf(protectedQueue);
+            if (victim == null)
+                victim = lastOf(window);
+
+            theMap.remove(victim.key);
+            unlink(victim);
+            addWeight(victim, -victim.weight);
+            evictions++;
+        }
+    }
+
+    /**
+     * Replace the frequency sketch with one twice the entry count once
+     * there are more entries than it has counters per row. A fresh
+     * sketch starts from zero, so popularity is relearned; the width
+     * doubles each time, so this happens only a few times.
+     */
+    private void ensureSketchCapacity() {
+        int entries = theMap.size();
+        if (entries > sketch.width() && sketch.width() < MAX_SKETCH_SIZE)
+            sketch = new FrequencySketch((int) Math.min(2L * entries, MAX_SKETCH_SIZE));
+    }
+
+    /**
+     * Add to the weight of the segment holding an entry.
+     *
+     * @param node  the entry.
+     * @param delta the weight to add (negative to subtract).
+     */
+    private void addWeight(Node<K, V> node, long delta) {
+        if (node.queue == WINDOW)
+            windowWeight += delta;
+        else if (node.queue == PROBATION)
+            probationWeight += delta;
+        else
+            protectedWeight += delta;
+    }
+
+    /**
+     * Link an entry in at the most recently used end of a segment.
+     *
+     * @param head the segment's sentinel node.
+     * @param node the entry to link.
+     */
+    private static <K, V> void linkFirst(Node<K, V> head, Node<K, V> node) {
+        node.prev = head;
+        node.next = head.next;
+        head.next.prev = node;
+        head.next = node;
+    }
+
+    /**
+     * Unlink an entry from its segment.
+     *
+     * @param node the entry to unlink.
+     */
+    private static <K, V> void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Return the least recently used entry of a segment.
+     *
+     * @param head the segment's sentinel node.
+     * @return the LRU entry, or null if the segment is empty.
+     */
+    private static <K, V> Node<K, V> lastOf(Node<K, V> head) {
+        return head.prev == head ? null : head.prev;
+    }
+
+    /**
+     * The segments an entry can be in.
+     */
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static final int MAX_SKETCH_SIZE = 1 << 24;
+
+    /**
+     * The entries by key, and the circular doubly-linked LRU list of each
+     * segment, most recently used first after the sentinel.
+     */
+    private final SeparateChainingHashMap<K, Node<K, V>> theMap;
+    private final Node<K, V> window;
+    private final Node<K, V> probation;
+    private final Node<K, V> protectedQueue;
+
+    /**
+     * The weight limits and the current weight of each segment.
+     */
+    private final long maximumWeight;
+    private final long maxWindowWeight;
+    private final long maxProtectedWeight;
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+    private final ToIntFunction<? super V> weigher;
+
+    private FrequencySketch sketch;
+
+    /**
+     * Request and eviction counters; the cache is single-threaded, so
+     * plain fields are enough.
+     */
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * A cached entry, linked into the LRU list of its segment.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        int weight;
+        int queue;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A Count-Min sketch of 4-bit counters, sixteen to a long, estimating
+     * how often each hash code has been seen. Every counter is halved
+     * once the sketch has counted ten times its width, so old popularity
+     * fades.
+     */
+    private static final class FrequencySketch {
+        /**
+         * Construct a sketch for about the given number of distinct keys.
+         *
+         * @param expectedKeys the number of keys the cache holds.
+         */
+        FrequencySketch(int expectedKeys) {
+            int width = expectedKeys <= 16 ? 16 : Integer.highestOneBit(expectedKeys - 1) << 1;
+            table = new long[width];
+            tableMask = width - 1;
+            sampleSize = 10 * width;
+        }
+
+        /**
+         * Return the number of longs in the table.
+         *
+         * @return the sketch width.
+         */
+        int width() {
+            return table.length;
+        }
+
+        /**
+         * Count one more use of a hash code.
+         *
+         * @param hashVal the key's hash code.
+         */
+        void increment(int hashVal) {
+            int h = Hashers.fmix32(hashVal);
+            int start = (h & 3) << 2;
+
+            // One counter in each of four longs, at four different positions
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(h, i);
+                int offset = (start + i) << 2;
+                if (((table[index] >>> offset) & 0xF) < 15) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+
+            if (added && ++size == sampleSize)
+                reset();
+        }
+
+        /**
+         * Estimate how often a hash code has been seen.
+         *
+         * @param hashVal the key's hash code.
+         * @return the smallest of its four counters, 0 to 15.
+         */
+        int frequency(int hashVal) {
+            int h = Hashers.fmix32(hashVal);
+            int start = (h & 3) << 2;
+
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                int count = (int) ((table[indexOf(h, i)] >>> ((start + i) << 2)) & 0xF);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        /**
+         * Halve every counter.
+         */
+        private void reset() {
+            for (int i = 0; i < table.length; i++)
+                table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+            size /= 2;
+        }
+
+        /**
+         * Pick the long holding the i-th counter of a hash.
+         *
+         * @param h the mixed hash.
+         * @param i the counter number, 0 to 3.
+         * @return the index into table.
+         */
+        private int indexOf(int h, int i) {
+            long hash = (h + SEEDS[i]) * SEEDS[i];
+            hash += hash >>> 32;
+            return (int) hash & tableMask;
+        }
+
+        private static final long[] SEEDS = {
+                0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+        };
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+    }
+}
@@ -0,0 +1,407 @@
+/**************************************************************************
+ * @file: ConcurrentChainingHashTable.java
+ * @description: This program implements a thread-safe separate chaining
+ *               hash table using lock striping. The buckets are split into
+ *               segments, each guarded by its own lock, so writers to
+ *               different segments never wait on each other. Lookups do not
+ *               lock at all, and each segment resizes on its own while the
+ *               rest of the table stays available. A segment's resize is
+ *               shared among its writers: the one that crosses the load
+ *               limit allocates the doubled bucket array, and it and every
+ *               later writer to that segment move a few buckets before
+ *               their own update, leaving a forwarding node in each moved
+ *               bucket, so no single insert copies the whole segment.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// ConcurrentChaining Hash table class
+//
+// CONSTRUCTION: an approximate initial size or default of 128,
+//               and a number of lock stripes or default of 16
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// AnyType remove( x )    --> Remove x, return the removed item
+// boolean contains( x )  --> Return true if x is present (lock-free)
+// void makeEmpty( )      --> Remove all items
+// int size( )            --> Return the number of items
+
+public class ConcurrentChainingHashTable<AnyType> implements HashTable<AnyType> {
+    /**
+     * Construct the hash table.
+     */
+    public ConcurrentChainingHashTable() {
+        this(DEFAULT_TABLE_SIZE, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param size    approximate total table size.
+     * @param stripes approximate number of lock stripes (rounded up to a power of two).
+     */
+    public ConcurrentChainingHashTable(int size, int stripes) {
+        int segmentCount = nextPowerOfTwo(Math.max(1, stripes));
+        int segmentSize = nextPowerOfTwo(Math.max(1, size / segmentCount));
+
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segments.length; i++)
+            segments[i] = new Segment<>(segmentSize);
+
+        // The top bits of the spread hash pick the segment
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    /**
+     * Insert into the hash table. If the item is
+     * already present, then do nothing. Only the
+     * segment that owns the item is locked.
+     *
+     * @param x the item to insert.
+     */
+    public void insert(AnyType x) {
+        int hashVal = spread(x.hashCode());
+        segmentFor(hashVal).insert(x, hashVal);
+    }
+
+    /**
+     * Remove from the hash table. Only the segment
+     * that owns the item is locked.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    public AnyType remove(AnyType x) {
+        int hashVal = spread(x.hashCode());
+        return segmentFor(hashVal).remove(x, hashVal);
+    }
+
+    /**
+     * Find an item in the hash table without taking any lock.
+     *
+     * @param x the item to search for.
+     * @return true if x is found, false otherwise.
+     */
+    public boolean contains(AnyType x) {
+        int hashVal = spread(x.hashCode());
+        return segmentFor(hashVal).contains(x, hashVal);
+    }
+
+    /**
+     * Make the hash table logically empty by clearing every segment.
+     * Segments are cleared one at a time, so concurrent inserts into
+     * segments that were already cleared are kept.
+     */
+    public void makeEmpty() {
+        for (Segment<AnyType> segment : segments)
+            segment.clear();
+    }
+
+    /**
+     * Count the items in the hash table. Under concurrent updates the
+     * result is a sum of per-segment counts, not an atomic snapshot.
+     *
+     * @return the number of items.
+     */
+    public int size() {
+        int total = 0;
+        for (Segment<AnyType> segment : segments)
+            total += segment.count;
+        return total;
+    }
+
+    /**
+     * Find the segment that owns a spread hash code.
+     *
+     * @param hashVal the spread hash code.
+     * @return the owning segment.
+     */
+    private Segment<AnyType> segmentFor(int hashVal) {
+        return segments[segmentShift == 32 ? 0 : hashVal >>> segmentShift];
+    }
+
+    /**
+     * Mix the bits of a hash code so that both the top bits (segment)
+     * and the low bits (bucket) depend on the whole value.
+     *
+     * @param hashVal the item's hash code.
+     * @return the spread hash code.
+     */
+    private static int spread(int hashVal) {
+        hashVal *= 0x9E3779B9;
+        return hashVal ^ (hashVal >>> 16);
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 128;
+    private static final int DEFAULT_STRIPES = 16;
+
+    /**
+     * The lock stripes; each one owns a private bucket array.
+     */
+    private final Segment<AnyType>[] segments;
+    private final int segmentShift;
+
+    /**
+     * One lock stripe: a small chaining table guarded by its own lock.
+     * Writers hold the lock; readers only follow volatile references.
+     */
+    private static final class Segment<AnyType> {
+        /**
+         * Construct an empty segment.
+         *
+         * @param size the number of buckets (a power of two).
+         */
+        Segment(int size) {
+            table = new AtomicReferenceArray<>(size);
+        }
+
+        /**
+         * Search the segment without locking. Nodes are never changed in
+         * place except for their volatile next link, so a reader always
+         * sees a well-formed chain.
+         *
+         * @param x       the item to search for.
+         * @param hashVal the spread hash code.
+         * @return true if x is found.
+         */
+        boolean contains(AnyType x, int hashVal) {
+            AtomicReferenceArray<HashNode<AnyType>> tab = table;
+            HashNode<AnyType> head = tab.get(hashVal & (tab.length() - 1));
+
+            // A moved bucket forwards to the array it was copied into
+            while (head instanceof ForwardingNode) {
+                tab = ((ForwardingNode<AnyType>) head).nextTable;
+                head = tab.get(hashVal & (tab.length() - 1));
+            }
+
+            for (HashNode<AnyType> node = head; node != null; node = node.next) {
+                if (node.hash == hashVal && node.element.equals(x))
+                    return true;
+            }
+            return false;
+        }
+
+        /**
+         * Insert under the segment lock, after moving a share of any
+         * resize in progress. Starts a resize if the load factor exceeds 1.0.
+         *
+         * @param x       the item to insert.
+         * @param hashVal the spread hash code.
+         */
+        void insert(AnyType x, int hashVal) {
+            lock.lock();
+            try {
+                helpTransfer();
+                AtomicReferenceArray<HashNode<AnyType>> tab = tableFor(hashVal);
+                int index = hashVal & (tab.length() - 1);
+                HashNode<AnyType> head = tab.get(index);
+                for (HashNode<AnyType> node = head; node != null; node = node.next) {
+                    if (node.hash == hashVal && node.element.equals(x))
+                        return;
+                }
+
+                // Publish a fully built node at the head of the chain
+                tab.set(index, new HashNode<>(x, hashVal, head));
+                count = count + 1;
+
+                if (nextTable == null && count > table.length())
+                    startResize();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Remove under the segment lock, after moving a share of any
+         * resize in progress.
+         *
+         * @param x       the item to remove.
+         * @param hashVal the spread hash code.
+         * @return the stored item that was removed, or null.
+         */
+        AnyType remove(AnyType x, int hashVal) {
+            lock.lock();
+            try {
+                helpTransfer();
+                AtomicReferenceArray<HashNode<AnyType>> tab = tableFor(hashVal);
+                int index = hashVal & (tab.length() - 1);
+                HashNode<AnyType> prev = null;
+                for (HashNode<AnyType> node = tab.get(index); node != null; node = node.next) {
+                    if (node.hash == hashVal && node.element.equals(x)) {
+                        // A reader already on this node can still follow its next link
+                        if (prev == null)
+                            tab.set(index, node.next);
+                        else
+                            prev.next = node.next;
+                        count = count - 1;
+                        return node.element;
+                    }
+                    prev = node;
+                }
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Clear the segment by publishing a fresh bucket array, dropping
+         * any resize in progress but keeping its size.
+         */
+        void clear() {
+            lock.lock();
+            try {
+                int size = nextTable != null ? nextTable.length() : table.length();
+                table = new AtomicReferenceArray<>(size);
+                nextTable = null;
+                count = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Pick the bucket array that holds a hash code's chain: the new
+         * array if its old bucket has already been moved. Called with the
+         * lock held.
+         *
+         * @param hashVal the spread hash code.
+         * @return the bucket array to search and update.
+         */
+        private AtomicReferenceArray<HashNode<AnyType>> tableFor(int hashVal) {
+            AtomicReferenceArray<HashNode<AnyType>> tab = table;
+            if (nextTable != null && tab.get(hashVal & (tab.length() - 1)) instanceof ForwardingNode)
+                return nextTable;
+            return tab;
+        }
+
+        /**
+         * Start doubling this segment's bucket array. Called with the lock
+         * held. The caller moves the first share of the buckets; later
+         * writers move the rest.
+         */
+        private void startResize() {
+            nextTable = new AtomicReferenceArray<>(2 * table.length());
+            transferIndex = 0;
+            helpTransfer();
+        }
+
+        /**
+         * Move the next few buckets of a resize in progress, and publish
+         * the new array once every bucket has moved. Called with the lock
+         * held. The new array is twice as large, so the resize normally
+         * finishes long before the next one is due.
+         */
+        private void helpTransfer() {
+            if (nextTable == null)
+                return;
+
+            AtomicReferenceArray<HashNode<AnyType>> oldTable = table;
+            for (int moved = 0; moved < TRANSFER_BUCKETS && transferIndex < oldTable.length(); moved++)
+                moveBucket(oldTable, transferIndex++);
+
+            if (transferIndex == oldTable.length()) {
+                table = nextTable;
+                nextTable = null;
+            }
+        }
+
+        /**
+         * Copy one old bucket's chain into the new array, then replace it
+         * with a forwarding node. Nodes are copied rather than relinked, so
+         * readers still walking the old chain are never sent into the wrong
+         * one, and the copies are in place before the forwarding node that
+         * leads readers to them is published.
+         *
+         * @param oldTable the array being resized.
+         * @param i        the bucket to move.
+         */
+        private void moveBucket(AtomicReferenceArray<HashNode<AnyType>> oldTable, int i) {
+            int mask = nextTable.length() - 1;
+            for (HashNode<AnyType> node = oldTable.get(i); node != null; node = node.next) {
+                int index = node.hash & mask;
+                nextTable.set(index, new HashNode<>(node.element, node.hash, nextTable.get(index)));
+            }
+            oldTable.set(i, new ForwardingNode<>(nextTable));
+        }
+
+        /**
+         * The lock every writer to this segment holds.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * The bucket array (replaced when a resize finishes, read with
+         * volatile semantics) and item count.
+         */
+        private volatile AtomicReferenceArray<HashNode<AnyType>> table;
+        private volatile int count;
+
+        /**
+         * The array a resize in progress is moving buckets into, or null,
+         * and the next old bucket to move. Only writers, holding the lock,
+         * use these; readers find the new array through forwarding nodes.
+         */
+        private AtomicReferenceArray<HashNode<AnyType>> nextTable;
+        private int transferIndex;
+    }
+
+    /**
+     * How many buckets a writer moves each time it helps with a resize.
+     */
+    private static final int TRANSFER_BUCKETS = 4;
+
+    /**
+     * A chain node that caches its element's spread hash code.
+     */
+    private static class HashNode<AnyType> {
+        final AnyType element;
+        final int hash;
+        volatile HashNode<AnyType> next;
+
+        /**
+         * Construct a chain node.
+         *
+         * @param element the stored item.
+         * @param hash    the item's spread hash code.
+         * @param next    the following node in the chain, or null.
+         */
+        HashNode(AnyType element, int hash, HashNode<AnyType> next) {
+            this.element = element;
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * The head of an old bucket whose chain has been copied to a resized
+     * array. It holds no item; searches that meet it continue in nextTable.
+     */
+    private static final class ForwardingNode<AnyType> extends HashNode<AnyType> {
+        final AtomicReferenceArray<HashNode<AnyType>> nextTable;
+
+        /**
+         * Construct a forwarding node.
+         *
+         * @param nextTable the array the bucket was copied into.
+         */
+        ForwardingNode(AtomicReferenceArray<HashNode<AnyType>> nextTable) {
+            super(null, 0, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * Internal method to find a power of two at least as large as n.
+     *
+     * @param n the starting number (must be positive).
+     * @return a power of two larger than or equal to n.
+     */
+    private static int nextPowerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+}
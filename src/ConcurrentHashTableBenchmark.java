@@ -0,0 +1,181 @@
+/**************************************************************************
+ * @file: ConcurrentHashTableBenchmark.java
+ * @description: This program measures multi-threaded throughput of the
+ *               concurrent hash tables against a SeparateChainingHashTable
+ *               guarded by one external lock. Worker threads insert and then
+ *               look up gdp2025 records, replicated from the dataset so there
+ *               is enough work to spread over every core.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+public class ConcurrentHashTableBenchmark {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        // Use command line arguments to specify the input file
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: java ConcurrentHashTableBenchmark <input file> [max threads] [number of keys]");
+            System.exit(1);
+        }
+
+        String inputFileName = args[0];
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+        int numKeys = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_KEYS;
+
+        // Replicate the dataset into numKeys distinct records
+        ArrayList<gdp2025> dataList = Proj4.readDataset(inputFileName, Integer.MAX_VALUE);
+        ArrayList<gdp2025> keys = new ArrayList<>(numKeys);
+        for (int i = 0; keys.size() < numKeys; i++) {
+            gdp2025 item = dataList.get(i % dataList.size());
+            keys.add(new gdp2025(item.getCountry() + "#" + (i / dataList.size()), item.getGdp()));
+        }
+        Collections.shuffle(keys);
+
+        // Print header
+        System.out.println("\n========================================");
+        System.out.println("Concurrent Hash Table Throughput");
+        System.out.println("Dataset: " + inputFileName);
+        System.out.println("Number of keys: " + numKeys);
+        System.out.println("========================================\n");
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            System.out.printf("Threads: %d%n", threads);
+            runBenchmark("Synchronized chaining", () -> new SynchronizedHashTable<>(new SeparateChainingHashTable<>()),
+                    keys, threads);
+            runBenchmark("Lock-striped chaining", ConcurrentChainingHashTable::new, keys, threads);
+            runBenchmark("Lock-free split-ordered", LockFreeHashTable::new, keys, threads);
+        }
+    }
+
+    /**
+     * Runs one table through a warm-up round and a timed round. Each thread
+     * inserts its own slice of the keys, then looks up every key
+     * LOOKUP_ROUNDS times, then removes its slice again.
+     *
+     * @param label   description of the table (for output)
+     * @param factory creates a fresh, empty table
+     * @param keys    the records to use
+     * @param threads the number of worker threads
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    private static void runBenchmark(String label, Supplier<HashTable<gdp2025>> factory,
+                                     ArrayList<gdp2025> keys, int threads) throws InterruptedException {
+        runRound(factory.get(), keys, threads);
+        long elapsed = runRound(factory.get(), keys, threads);
+
+        // Each key is inserted once, looked up LOOKUP_ROUNDS times per thread, and removed once
+        double operations = (double) keys.size() * (2 + (long) LOOKUP_ROUNDS * threads);
+        System.out.printf("  %-24s - %.6f s, %.2f million ops/s%n",
+                label, elapsed / 1e9, operations / (elapsed / 1e3));
+    }
+
+    /**
+     * Runs one timed round of the workload.
+     *
+     * @param table   the table to exercise
+     * @param keys    the records to use
+     * @param threads the number of worker threads
+     * @return the elapsed time in nanoseconds
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    private static long runRound(HashTable<gdp2025> table, ArrayList<gdp2025> keys, int threads)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch inserted = new CountDownLatch(threads);
+        CountDownLatch searched = new CountDownLatch(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        int[] misses = new int[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            Thread worker = new Thread(() -> {
+                int from = (int) ((long) keys.size() * id / threads);
+                int to = (int) ((long) keys.size() * (id + 1) / threads);
+                try {
+                    start.await();
+
+                    // Insert this thread's slice
+                    for (int i = from; i < to; i++)
+                        table.insert(keys.get(i));
+                    inserted.countDown();
+                    inserted.await();
+
+                    // Look up every key, starting at this thread's slice
+                    for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+                        for (int i = 0; i < keys.size(); i++) {
+                            if (!table.contains(keys.get((from + i) % keys.size())))
+                                misses[id]++;
+                        }
+                    }
+
+                    searched.countDown();
+                    searched.await();
+
+                    // Remove this thread's slice
+                    for (int i = from; i < to; i++)
+                        table.remove(keys.get(i));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            worker.start();
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        long endTime = System.nanoTime();
+
+        // Every lookup happens after all inserts and before any remove, so none may miss
+        for (int t = 0; t < threads; t++) {
+            if (misses[t] != 0)
+                System.out.println("  OOPS!!! thread " + t + " missed " + misses[t] + " keys");
+        }
+
+        return endTime - startTime;
+    }
+
+    private static final int DEFAULT_KEYS = 200000;
+    private static final int LOOKUP_ROUNDS = 2;
+
+    /**
+     * Wraps a single-threaded table so that every operation takes one
+     * shared lock, the way callers had to use SeparateChainingHashTable.
+     */
+    private static final class SynchronizedHashTable<AnyType> implements HashTable<AnyType> {
+        private final HashTable<AnyType> table;
+
+        /**
+         * Construct the wrapper.
+         *
+         * @param table the table to guard.
+         */
+        SynchronizedHashTable(HashTable<AnyType> table) {
+            this.table = table;
+        }
+
+        public synchronized void insert(AnyType x) {
+            table.insert(x);
+        }
+
+        public synchronized AnyType remove(AnyType x) {
+            return table.remove(x);
+        }
+
+        public synchronized boolean contains(AnyType x) {
+            return table.contains(x);
+        }
+
+        public synchronized void makeEmpty() {
+            table.makeEmpty();
+        }
+    }
+}
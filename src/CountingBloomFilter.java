@@ -0,0 +1,200 @@
+/**************************************************************************
+ * @file: CountingBloomFilter.java
+ * @description: This program implements a counting Bloom filter over 32-bit
+ *               hash codes. Each hash code increments k counters chosen by
+ *               double hashing; a hash code whose counters are not all
+ *               non-zero was definitely never added. Counters make removal
+ *               possible, and a counter that saturates is never decremented,
+ *               so the filter can only err towards "maybe present".
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.Arrays;
+
+// CountingBloomFilter class
+//
+// CONSTRUCTION: the expected number of hash codes and the target
+//               false-positive rate
+//
+// ******************PUBLIC OPERATIONS*********************
+// void add( h )                   --> Record hash code h
+// void remove( h )                --> Forget one earlier add of h
+// boolean mightContain( h )       --> Return false only if h was never added
+// void clear( )                   --> Forget every hash code
+// int expectedInsertions( )       --> Return the size the filter was built for
+// double targetFalsePositiveRate( ) --> Return the configured false-positive rate
+// double falsePositiveRate( )     --> Return the estimated current false-positive rate
+// long memoryBytes( )             --> Return the size of the counter array
+
+public class CountingBloomFilter {
+    /**
+     * Construct the filter with the optimal number of counters and hash
+     * functions for the expected number of hash codes.
+     *
+     * @param expectedInsertions the number of hash codes expected at once.
+     * @param falsePositiveRate  the target false-positive rate, between 0 and 1.
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0 and 1.
+     */
+    public CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+
+        this.expectedInsertions = Math.max(expectedInsertions, 1);
+        this.targetRate = falsePositiveRate;
+
+        // m = -n ln(p) / (ln 2)^2 counters and k = (m / n) ln 2 hash functions
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        counters = new byte[(int) Math.min(Math.max(m, 64), MAX_COUNTERS)];
+        numHashes = Math.max(1, (int) Math.round((double) counters.length / this.expectedInsertions * ln2));
+        nonZeroCounters = 0;
+    }
+
+    /**
+     * Record a hash code.
+     *
+     * @param hashVal the hash code.
+     */
+    public void add(int hashVal) {
+        long z = mix(hashVal);
+        int h1 = (int) z;
+        int h2 = (int) (z >>> 32) | 1;
+
+        for (int i = 0; i < numHashes; i++) {
+            int index = counterIndex(h1 + i * h2);
+            int count = counters[index] & 0xFF;
+            if (count == 0)
+                nonZeroCounters++;
+
+            // A saturated counter stays put; its true count is unknown
+            if (count < SATURATED)
+                counters[index] = (byte) (count + 1);
+        }
+    }
+
+    /**
+     * Forget one earlier add of a hash code. The hash code must have been
+     * added, or other hash codes may start to read as definite misses.
+     *
+     * @param hashVal the hash code.
+     */
+    public void remove(int hashVal) {
+        long z = mix(hashVal);
+        int h1 = (int) z;
+        int h2 = (int) (z >>> 32) | 1;
+
+        for (int i = 0; i < numHashes; i++) {
+            int index = counterIndex(h1 + i * h2);
+            int count = counters[index] & 0xFF;
+            if (count == 0 || count == SATURATED)
+                continue;
+
+            counters[index] = (byte) (count - 1);
+            if (count == 1)
+                nonZeroCounters--;
+        }
+    }
+
+    /**
+     * Check whether a hash code may have been added.
+     *
+     * @param hashVal the hash code.
+     * @return false if the hash code was definitely never added.
+     */
+    public boolean mightContain(int hashVal) {
+        long z = mix(hashVal);
+        int h1 = (int) z;
+        int h2 = (int) (z >>> 32) | 1;
+
+        for (int i = 0; i < numHashes; i++) {
+            if (counters[counterIndex(h1 + i * h2)] == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Forget every hash code by zeroing all counters.
+     */
+    public void clear() {
+        Arrays.fill(counters, (byte) 0);
+        nonZeroCounters = 0;
+    }
+
+    /**
+     * Return the number of hash codes the filter was sized for.
+     *
+     * @return the expected number of insertions.
+     */
+    public int expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * Return the false-positive rate the filter was sized for.
+     *
+     * @return the target false-positive rate.
+     */
+    public double targetFalsePositiveRate() {
+        return targetRate;
+    }
+
+    /**
+     * Estimate the current false-positive rate from the fraction of
+     * non-zero counters, which is the chance that every one of the k
+     * counters of an absent hash code is non-zero.
+     *
+     * @return the estimated false-positive rate.
+     */
+    public double falsePositiveRate() {
+        return Math.pow((double) nonZeroCounters / counters.length, numHashes);
+    }
+
+    /**
+     * Return the memory used by the counters (one byte each).
+     *
+     * @return the size of the counter array in bytes.
+     */
+    public long memoryBytes() {
+        return counters.length;
+    }
+
+    /**
+     * Map one of the derived hashes to a counter, using a multiply-high
+     * instead of a division.
+     *
+     * @param h a derived hash.
+     * @return the counter index.
+     */
+    private int counterIndex(int h) {
+        return (int) (((h & 0xFFFFFFFFL) * counters.length) >>> 32);
+    }
+
+    /**
+     * Spread a hash code over 64 bits (SplitMix64's finalizer); the two
+     * halves seed the double hashing.
+     *
+     * @param hashVal the hash code.
+     * @return the mixed 64-bit value.
+     */
+    private static long mix(int hashVal) {
+        long z = hashVal * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final int SATURATED = 255;
+    private static final int MAX_COUNTERS = 1 << 30;
+
+    /**
+     * The counters, and how many of them are currently non-zero.
+     */
+    private final byte[] counters;
+    private int nonZeroCounters;
+
+    private final int numHashes;
+    private final int expectedInsertions;
+    private final double targetRate;
+}
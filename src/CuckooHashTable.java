@@ -0,0 +1,411 @@
+/**************************************************************************
+ * @file: CuckooHashTable.java
+ * @description: This program implements a hash table using bucketized
+ *               cuckoo hashing. Every item lives in one of two buckets of
+ *               four slots, chosen by two hash functions, or in a small
+ *               stash for the rare inserts whose eviction walk fails. A
+ *               search therefore checks at most two buckets and the stash,
+ *               however badly the keys collide.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.Arrays;
+
+// Cuckoo Hash table class
+//
+// CONSTRUCTION: an approximate initial size or default of 128
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// AnyType remove( x )    --> Remove x, return the removed item
+// boolean contains( x )  --> Return true if x is present
+// void makeEmpty( )      --> Remove all items
+
+public class CuckooHashTable<AnyType> implements HashTable<AnyType> {
+    /**
+     * Construct the hash table.
+     */
+    public CuckooHashTable() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param size approximate number of slots.
+     */
+    public CuckooHashTable(int size) {
+        allocateArrays(nextPowerOfTwo(size / SLOTS));
+        currentSize = 0;
+    }
+
+    /**
+     * Insert into the hash table. If the item is
+     * already present, then do nothing. Grow the table
+     * if the insertion exceeds the maximum load factor.
+     *
+     * @param x the item to insert.
+     */
+    public void insert(AnyType x) {
+        int hashVal = x.hashCode();
+        if (findPos(x, hashVal) != NOT_FOUND)
+            return;
+
+        // Grow before the table gets so full that eviction walks run long
+        if (currentSize >= maxLoadSize)
+            rehash(2 * numBuckets);
+
+        addItem(x, hashVal);
+        currentSize++;
+    }
+
+    /**
+     * Remove from the hash table.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public AnyType remove(AnyType x) {
+        int pos = findPos(x, x.hashCode());
+        if (pos == NOT_FOUND)
+            return null;
+
+        AnyType removed;
+        if (pos >= 0) {
+            removed = (AnyType) theItems[pos];
+            theItems[pos] = null;
+            theHashes[pos] = 0;
+        } else {
+            // Fill the hole in the stash with its last item
+            int i = -pos - 2;
+            removed = (AnyType) theStash[i];
+            stashSize--;
+            theStash[i] = theStash[stashSize];
+            theStashHashes[i] = theStashHashes[stashSize];
+            theStash[stashSize] = null;
+        }
+        currentSize--;
+
+        // A freed slot may let a stashed item move into its bucket
+        if (stashSize > 0 && pos >= 0)
+            drainStash();
+        return removed;
+    }
+
+    /**
+     * Find an item in the hash table. At most two buckets
+     * and the stash are checked.
+     *
+     * @param x the item to search for.
+     * @return true if x is found, false otherwise.
+     */
+    public boolean contains(AnyType x) {
+        return findPos(x, x.hashCode()) != NOT_FOUND;
+    }
+
+    /**
+     * Make the hash table logically empty by clearing the slot array and the stash.
+     */
+    public void makeEmpty() {
+        Arrays.fill(theItems, null);
+        Arrays.fill(theHashes, 0);
+        Arrays.fill(theStash, null);
+        stashSize = 0;
+        currentSize = 0;
+    }
+
+    /**
+     * Return the number of slots, not counting the stash. For tests.
+     *
+     * @return the number of bucket slots.
+     */
+    int capacity() {
+        return theItems.length;
+    }
+
+    /**
+     * Return the number of stashed items. For tests.
+     *
+     * @return the stash size.
+     */
+    int stashSize() {
+        return stashSize;
+    }
+
+    /**
+     * Find the slot that holds x.
+     *
+     * @param x       the item to search for.
+     * @param hashVal the hash code of x.
+     * @return the slot index, -(i + 2) for stash entry i, or NOT_FOUND.
+     */
+    private int findPos(Object x, int hashVal) {
+        int bucket = firstBucket(hashVal);
+        int pos = findInBucket(bucket, x, hashVal);
+        if (pos >= 0)
+            return pos;
+        pos = findInBucket(altBucket(bucket, hashVal), x, hashVal);
+        if (pos >= 0)
+            return pos;
+
+        for (int i = 0; i < stashSize; i++) {
+            if (theStashHashes[i] == hashVal && theStash[i].equals(x))
+                return -i - 2;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Search the slots of one bucket for an item.
+     *
+     * @param bucket  the bucket index.
+     * @param x       the item to search for.
+     * @param hashVal the hash code of x.
+     * @return the slot index, or NOT_FOUND.
+     */
+    private int findInBucket(int bucket, Object x, int hashVal) {
+        int start = bucket * SLOTS;
+        for (int pos = start; pos < start + SLOTS; pos++) {
+            // Compare the cached hash first so mismatches skip equals()
+            if (theHashes[pos] == hashVal && theItems[pos] != null && theItems[pos].equals(x))
+                return pos;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Place an absent item, evicting residents to their other bucket if
+     * both of its buckets are full. If the eviction walk fails, the item
+     * left over goes to the stash; if the stash is full too, the table
+     * grows and the item is placed again.
+     *
+     * @param x       the item to place.
+     * @param hashVal the cached hash code of x.
+     */
+    private void addItem(Object x, int hashVal) {
+        while (true) {
+            int bucket = firstBucket(hashVal);
+            if (placeInBucket(bucket, x, hashVal))
+                return;
+            bucket = altBucket(bucket, hashVal);
+            if (placeInBucket(bucket, x, hashVal))
+                return;
+
+            // Cuckoo walk: swap x with a random resident and carry the
+            // resident on to its other bucket
+            for (int kick = 0; kick < MAX_KICKS; kick++) {
+                int pos = bucket * SLOTS + (nextRandom() & (SLOTS - 1));
+                Object tmpItem = theItems[pos];
+                int tmpHash = theHashes[pos];
+                theItems[pos] = x;
+                theHashes[pos] = hashVal;
+                x = tmpItem;
+                hashVal = tmpHash;
+
+                bucket = altBucket(bucket, hashVal);
+                if (placeInBucket(bucket, x, hashVal))
+                    return;
+            }
+
+            // The walk failed, so stash the item that is left over
+            if (stashSize < theStash.length) {
+                addToStash(x, hashVal);
+                return;
+            }
+
+            // A full stash in a lightly loaded table means many keys share
+            // one hash code, which growing can not separate
+            if (currentSize < theItems.length * MIN_GROW_LOAD) {
+                theStash = Arrays.copyOf(theStash, 2 * theStash.length);
+                theStashHashes = Arrays.copyOf(theStashHashes, 2 * theStashHashes.length);
+                addToStash(x, hashVal);
+                return;
+            }
+
+            rehash(2 * numBuckets);
+        }
+    }
+
+    /**
+     * Place an item in a free slot of a bucket, if it has one.
+     *
+     * @param bucket  the bucket index.
+     * @param x       the item to place.
+     * @param hashVal the cached hash code of x.
+     * @return true if the item was placed.
+     */
+    private boolean placeInBucket(int bucket, Object x, int hashVal) {
+        int start = bucket * SLOTS;
+        for (int pos = start; pos < start + SLOTS; pos++) {
+            if (theItems[pos] == null) {
+                theItems[pos] = x;
+                theHashes[pos] = hashVal;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Append an item to the stash, which must have room.
+     *
+     * @param x       the item to stash.
+     * @param hashVal the cached hash code of x.
+     */
+    private void addToStash(Object x, int hashVal) {
+        theStash[stashSize] = x;
+        theStashHashes[stashSize] = hashVal;
+        stashSize++;
+    }
+
+    /**
+     * Move stashed items back into the table wherever one of their
+     * buckets has a free slot.
+     */
+    private void drainStash() {
+        for (int i = stashSize - 1; i >= 0; i--) {
+            int hashVal = theStashHashes[i];
+            int bucket = firstBucket(hashVal);
+            if (placeInBucket(bucket, theStash[i], hashVal)
+                    || placeInBucket(altBucket(bucket, hashVal), theStash[i], hashVal)) {
+                stashSize--;
+                theStash[i] = theStash[stashSize];
+                theStashHashes[i] = theStashHashes[stashSize];
+                theStash[stashSize] = null;
+            }
+        }
+    }
+
+    /**
+     * Rehash the table by creating a new table with the given
+     * number of buckets and reinserting all elements, including
+     * the stashed ones.
+     *
+     * @param newBuckets the number of buckets (a power of two).
+     */
+    private void rehash(int newBuckets) {
+        // Save the old arrays
+        Object[] oldItems = theItems;
+        int[] oldHashes = theHashes;
+        Object[] oldStash = theStash;
+        int[] oldStashHashes = theStashHashes;
+        int oldStashSize = stashSize;
+
+        // Create new, larger arrays
+        allocateArrays(newBuckets);
+
+        // Copy elements from old table to new table; they are all distinct,
+        // so no equality checks are needed
+        for (int i = 0; i < oldItems.length; i++) {
+            if (oldItems[i] != null)
+                addItem(oldItems[i], oldHashes[i]);
+        }
+        for (int i = 0; i < oldStashSize; i++)
+            addItem(oldStash[i], oldStashHashes[i]);
+    }
+
+    /**
+     * Allocate the slot arrays, an empty stash and the derived fields
+     * for a given number of buckets.
+     *
+     * @param buckets the number of buckets (a power of two).
+     */
+    private void allocateArrays(int buckets) {
+        numBuckets = buckets;
+        theItems = new Object[buckets * SLOTS];
+        theHashes = new int[buckets * SLOTS];
+        theStash = new Object[STASH_SIZE];
+        theStashHashes = new int[STASH_SIZE];
+        stashSize = 0;
+        shift = 32 - Integer.numberOfTrailingZeros(buckets);
+        maxLoadSize = (int) (theItems.length * MAX_LOAD);
+    }
+
+    /**
+     * Map a hash code to its first bucket using Fibonacci hashing.
+     *
+     * @param hashVal the hash code.
+     * @return the first bucket index.
+     */
+    private int firstBucket(int hashVal) {
+        return (hashVal * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Map an item's bucket to its other bucket. The offset depends only on
+     * the hash code and is XORed in, so applying this to either bucket
+     * gives the other one, and it is odd, so the two always differ.
+     *
+     * @param bucket  one of the item's buckets.
+     * @param hashVal the item's hash code.
+     * @return the item's other bucket index.
+     */
+    private int altBucket(int bucket, int hashVal) {
+        return bucket ^ (((hashVal * 0x85EBCA6B) >>> shift) | 1);
+    }
+
+    /**
+     * Step the xorshift generator that picks eviction victims.
+     *
+     * @return the next pseudo-random number.
+     */
+    private int nextRandom() {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 17;
+        randomState ^= randomState << 5;
+        return randomState;
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 128;
+    private static final double MAX_LOAD = 0.9;
+    private static final int NOT_FOUND = -1;
+
+    /**
+     * The slots per bucket, the initial stash size, and the eviction
+     * walk length after which an insert falls back to the stash.
+     */
+    private static final int SLOTS = 4;
+    private static final int STASH_SIZE = 4;
+    private static final int MAX_KICKS = 256;
+
+    /**
+     * The stash only grows, rather than the table, while the table is
+     * less than this full.
+     */
+    private static final double MIN_GROW_LOAD = 0.5;
+
+    /**
+     * The array of items and their cached hash codes, SLOTS per bucket.
+     */
+    private Object[] theItems;
+    private int[] theHashes;
+    private int numBuckets;
+    private int currentSize;
+    private int maxLoadSize;
+    private int shift;
+
+    /**
+     * The stash of items that could not be placed in either bucket.
+     */
+    private Object[] theStash;
+    private int[] theStashHashes;
+    private int stashSize;
+
+    private int randomState = 0x2545F491;
+
+    /**
+     * Internal method to find a power of two at least as large as n.
+     *
+     * @param n the starting number.
+     * @return a power of two larger than or equal to n (at least 2).
+     */
+    private static int nextPowerOfTwo(int n) {
+        if (n <= 2)
+            return 2;
+
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+
+}
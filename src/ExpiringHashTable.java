@@ -0,0 +1,325 @@
+/**************************************************************************
+ * @file: ExpiringHashTable.java
+ * @description: This program implements a hash table whose items expire a
+ *               fixed time after they are inserted. Items are found through
+ *               a SeparateChainingHashMap and are also filed in a
+ *               hierarchical timer wheel by expiry time, so expired items
+ *               are reclaimed a bucket at a time, in amortized O(1) each,
+ *               without scanning the table. Searches only compare the
+ *               item's expiry time with the clock; reclaiming happens on
+ *               updates or cleanUp().
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// ExpiringHashTable class
+//
+// CONSTRUCTION: a default time-to-live, and a nanosecond clock or
+//               default of System.nanoTime
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )               --> Insert x with the default time-to-live
+// void insert( x, ttl, unit )    --> Insert x, expiring ttl from now
+// AnyType get( x )               --> Return the live item equal to x, or null
+// AnyType remove( x )            --> Remove x, return the removed live item
+// boolean contains( x )          --> Return true if x is present and live
+// void cleanUp( )                --> Reclaim the items that have expired
+// int size( )                    --> Return the number of unreclaimed items
+// void makeEmpty( )              --> Remove all items
+
+public class ExpiringHashTable<AnyType> implements HashTable<AnyType> {
+    /**
+     * Construct the hash table.
+     *
+     * @param defaultTtl the time-to-live used by insert( x ).
+     * @param unit       the unit of defaultTtl.
+     */
+    public ExpiringHashTable(long defaultTtl, TimeUnit unit) {
+        this(defaultTtl, unit, System::nanoTime);
+    }
+
+    /**
+     * Construct the hash table with its own clock, for example a fake
+     * one in tests.
+     *
+     * @param defaultTtl the time-to-live used by insert( x ).
+     * @param unit       the unit of defaultTtl.
+     * @param clock      a nanosecond clock; only differences are used.
+     * @throws IllegalArgumentException if defaultTtl is negative.
+     */
+    public ExpiringHashTable(long defaultTtl, TimeUnit unit, LongSupplier clock) {
+        if (defaultTtl < 0)
+            throw new IllegalArgumentException("defaultTtl must not be negative: " + defaultTtl);
+
+        this.defaultTtlNanos = unit.toNanos(defaultTtl);
+        this.clock = clock;
+        startNanos = clock.getAsLong();
+        theMap = new SeparateChainingHashMap<>();
+
+        wheel = new Node[SHIFTS.length][BUCKETS];
+        for (Node<AnyType>[] level : wheel) {
+            for (int i = 0; i < BUCKETS; i++) {
+                level[i] = new Node<>(null, 0);
+                level[i].prev = level[i];
+                level[i].next = level[i];
+            }
+        }
+        wheelNanos = 0;
+    }
+
+    /**
+     * Insert into the hash table with the default time-to-live. If an
+     * equal item is present it is replaced and its time-to-live restarts.
+     *
+     * @param x the item to insert.
+     */
+    public void insert(AnyType x) {
+        insert(x, defaultTtlNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Insert into the hash table, expiring after the given time. If an
+     * equal item is present it is replaced and its time-to-live restarts.
+     *
+     * @param x    the item to insert.
+     * @param ttl  the time-to-live.
+     * @param unit the unit of ttl.
+     * @throws IllegalArgumentException if ttl is negative.
+     */
+    public void insert(AnyType x, long ttl, TimeUnit unit) {
+        if (ttl < 0)
+            throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+
+        long now = now();
+        advance(now);
+
+        Node<AnyType> node = theMap.get(x);
+        if (node != null) {
+            unlink(node);
+            node.item = x;
+        } else {
+            node = new Node<>(x, 0);
+            theMap.put(x, node);
+        }
+
+        // Saturate rather than overflow for very long time-to-lives
+        long ttlNanos = unit.toNanos(ttl);
+        node.expiresAt = ttlNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlNanos;
+        schedule(node);
+    }
+
+    /**
+     * Find the live item equal to x.
+     *
+     * @param x the item to search for.
+     * @return the stored item, or null if it is absent or has expired.
+     */
+    public AnyType get(AnyType x) {
+        Node<AnyType> node = theMap.get(x);
+        return node != null && node.expiresAt > now() ? node.item : null;
+    }
+
+    /**
+     * Remove from the hash table.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent or had expired.
+     */
+    public AnyType remove(AnyType x) {
+        long now = now();
+        advance(now);
+
+        Node<AnyType> node = theMap.remove(x);
+        if (node == null)
+            return null;
+        unlink(node);
+        return node.expiresAt > now ? node.item : null;
+    }
+
+    /**
+     * Find an item in the hash table. An expired item is not found, even
+     * before it has been reclaimed.
+     *
+     * @param x the item to search for.
+     * @return true if x is found and has not expired, false otherwise.
+     */
+    public boolean contains(AnyType x) {
+        Node<AnyType> node = theMap.get(x);
+        return node != null && node.expiresAt > now();
+    }
+
+    /**
+     * Reclaim every item whose expiry time has passed, up to the
+     * resolution of the finest wheel (about a millisecond).
+     */
+    public void cleanUp() {
+        advance(now());
+    }
+
+    /**
+     * Return the number of items not yet reclaimed, which may include
+     * some that have just expired.
+     *
+     * @return the number of items.
+     */
+    public int size() {
+        return theMap.size();
+    }
+
+    /**
+     * Make the hash table logically empty by clearing the map and every
+     * wheel bucket.
+     */
+    public void makeEmpty() {
+        theMap.makeEmpty();
+        for (Node<AnyType>[] level : wheel) {
+            for (Node<AnyType> head : level) {
+                head.prev = head;
+                head.next = head;
+            }
+        }
+    }
+
+    /**
+     * Read the clock, relative to when the table was built.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    private long now() {
+        return clock.getAsLong() - startNanos;
+    }
+
+    /**
+     * Move the wheels forward to the given time. On each level, every
+     * bucket whose tick has passed is emptied: expired items are removed
+     * from the map and the rest are filed again, on a finer level.
+     *
+     * @param now the current time in nanoseconds.
+     */
+    private void advance(long now) {
+        long previous = wheelNanos;
+        if (now <= previous)
+            return;
+        wheelNanos = now;
+
+        for (int level = 0; level < SHIFTS.length; level++) {
+            long previousTicks = previous >>> SHIFTS[level];
+            long ticks = now >>> SHIFTS[level];
+            if (ticks == previousTicks)
+                break;
+
+            // At most one full turn of this level needs visiting
+            int steps = (int) Math.min(ticks - previousTicks + 1, BUCKETS);
+            int start = (int) (previousTicks & (BUCKETS - 1));
+            for (int i = start; i < start + steps; i++)
+                expireBucket(wheel[level][i & (BUCKETS - 1)], now);
+        }
+    }
+
+    /**
+     * Empty one wheel bucket, removing expired items and filing the others again.
+     *
+     * @param head the bucket's sentinel node.
+     * @param now  the current time in nanoseconds.
+     */
+    private void expireBucket(Node<AnyType> head, long now) {
+        if (head.next == head)
+            return;
+
+        // Detach the whole list first, since live nodes may be filed back
+        // into this same bucket
+        Node<AnyType> node = head.next;
+        head.prev.next = null;
+        head.prev = head;
+        head.next = head;
+
+        while (node != null) {
+            Node<AnyType> next = node.next;
+            node.prev = null;
+            node.next = null;
+
+            if (node.expiresAt <= now)
+                theMap.remove(node.item);
+            else
+                schedule(node);
+            node = next;
+        }
+    }
+
+    /**
+     * File a node in the wheel bucket for its expiry time: the finest
+     * level whose span covers the time left, or the coarsest level for
+     * expiry times beyond every span.
+     *
+     * @param node the node to file.
+     */
+    private void schedule(Node<AnyType> node) {
+        // An item that is already due goes in the current bucket
+        long due = Math.max(node.expiresAt, wheelNanos);
+        long delay = due - wheelNanos;
+        int level = 0;
+        while (level < SHIFTS.length - 1 && delay >= (long) BUCKETS << SHIFTS[level])
+            level++;
+
+        int index = (int) ((due >>> SHIFTS[level]) & (BUCKETS - 1));
+        Node<AnyType> head = wheel[level][index];
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+    }
+
+    /**
+     * Unlink a node from its wheel bucket.
+     *
+     * @param node the node to unlink.
+     */
+    private static <AnyType> void unlink(Node<AnyType> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * The buckets per wheel level, and the tick of each level as a power
+     * of two nanoseconds: about 1 ms, 67 ms, 4.3 s, 4.6 min and 4.9 h,
+     * so the coarsest level turns once every 13 days.
+     */
+    private static final int BUCKETS = 64;
+    private static final int[] SHIFTS = {20, 26, 32, 38, 44};
+
+    /**
+     * The items by value, and the wheel levels of circular bucket lists.
+     */
+    private final SeparateChainingHashMap<AnyType, Node<AnyType>> theMap;
+    private final Node<AnyType>[][] wheel;
+
+    /**
+     * The clock, its reading at construction, and the time the wheel has
+     * been advanced to.
+     */
+    private final LongSupplier clock;
+    private final long startNanos;
+    private long wheelNanos;
+
+    private final long defaultTtlNanos;
+
+    /**
+     * An item, its expiry time, and its links in a wheel bucket.
+     */
+    private static final class Node<AnyType> {
+        AnyType item;
+        long expiresAt;
+        Node<AnyType> prev;
+        Node<AnyType> next;
+
+        Node(AnyType item, long expiresAt) {
+            this.item = item;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/**************************************************************************
+ * @file: FloodingBenchmark.java
+ * @description: This program floods SeparateChainingHashTable with gdp2025
+ *               records whose country names all share one String.hashCode
+ *               (built from the colliding pairs "Aa" and "BB"). It times
+ *               the table window by window in three configurations: no
+ *               protection with keys that are not Comparable, so the
+ *               flooded bucket stays a linked chain; no protection with
+ *               the Comparable gdp2025 keys, so the bucket becomes a tree
+ *               bin; and flood protection, showing throughput before and
+ *               after the table switches to a randomly keyed SipHash.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.ArrayList;
+
+public class FloodingBenchmark {
+    public static void main(String[] args) {
+        // Use command line arguments to specify the key count
+        if (args.length > 1) {
+            System.err.println("Usage: java FloodingBenchmark [number of colliding keys]");
+            System.exit(1);
+        }
+
+        int numKeys = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUM_KEYS;
+        ArrayList<gdp2025> keys = collidingKeys(numKeys);
+
+        // Print header
+        System.out.println("\n========================================");
+        System.out.println("Hash Flooding Benchmark");
+        System.out.println("Colliding keys: " + keys.size() + " (all with String.hashCode "
+                + keys.get(0).hashCode() + ")");
+        System.out.println("========================================\n");
+
+        // The same names as keys that can not be put in a tree bin
+        ArrayList<PlainCountry> plainKeys = new ArrayList<>();
+        for (gdp2025 key : keys)
+            plainKeys.add(new PlainCountry(key.getCountry()));
+
+        // Warm up, then time; the chain run is slow enough to warm itself up
+        runWindows(keys, false);
+        runWindows(keys, true);
+
+        long[] chainNanos = runWindows(plainKeys, new SeparateChainingHashTable<>());
+        long[] treeNanos = runWindows(keys, false);
+        SeparateChainingHashTable<gdp2025> protectedTable = new SeparateChainingHashTable<>();
+        protectedTable.enableFloodProtection(gdp2025::getCountry);
+        long[] protectedNanos = runWindows(keys, protectedTable);
+
+        int windowSize = keys.size() / WINDOWS;
+        long opsPerWindow = (long) windowSize * (1 + LOOKUPS_PER_KEY);
+        for (int w = 0; w < WINDOWS; w++) {
+            System.out.printf("Keys %6d-%-6d - Chains: %8.0f ops/ms, Tree bins: %8.0f ops/ms, "
+                            + "Protected: %8.0f ops/ms%s%n",
+                    w * windowSize, (w + 1) * windowSize - 1,
+                    opsPerWindow / (chainNanos[w] / 1e6), opsPerWindow / (treeNanos[w] / 1e6),
+                    opsPerWindow / (protectedNanos[w] / 1e6),
+                    reseedWindow == w ? "  <-- reseeded" : "");
+        }
+        System.out.println("\nReseeds: " + protectedTable.reseedCount());
+        System.out.println(protectedTable.stats());
+    }
+
+    /**
+     * Runs the windowed workload on a fresh table.
+     *
+     * @param keys the colliding keys
+     * @param protect whether to enable flood protection
+     * @return the time of each window in nanoseconds
+     */
+    private static long[] runWindows(ArrayList<gdp2025> keys, boolean protect) {
+        SeparateChainingHashTable<gdp2025> table = new SeparateChainingHashTable<>();
+        if (protect)
+            table.enableFloodProtection(gdp2025::getCountry);
+        return runWindows(keys, table);
+    }
+
+    /**
+     * Inserts the keys window by window, looking each new key up
+     * LOOKUPS_PER_KEY times, and records the first window in which the
+     * table reseeded.
+     *
+     * @param keys the colliding keys
+     * @param table the table to fill
+     * @return the time of each window in nanoseconds
+     */
+    private static <K> long[] runWindows(ArrayList<K> keys, SeparateChainingHashTable<K> table) {
+        long[] times = new long[WINDOWS];
+        int windowSize = keys.size() / WINDOWS;
+        int found = 0;
+        reseedWindow = -1;
+
+        for (int w = 0; w < WINDOWS; w++) {
+            long startTime = System.nanoTime();
+            for (int i = w * windowSize; i < (w + 1) * windowSize; i++) {
+                K item = keys.get(i);
+                table.insert(item);
+                for (int r = 0; r < LOOKUPS_PER_KEY; r++) {
+                    if (table.contains(item))
+                        found++;
+                }
+            }
+            times[w] = System.nanoTime() - startTime;
+
+            if (reseedWindow < 0 && table.reseedCount() > 0)
+                reseedWindow = w;
+        }
+
+        if (found != WINDOWS * windowSize * LOOKUPS_PER_KEY)
+            System.out.println("OOPS!!! found " + found + " keys");
+
+        return times;
+    }
+
+    /**
+     * Builds records whose country names all have the same String.hashCode.
+     * "Aa" and "BB" hash alike, so every string made of n such pairs does.
+     *
+     * @param count the number of keys wanted (rounded up to a power of two)
+     * @return the colliding records
+     */
+    private static ArrayList<gdp2025> collidingKeys(int count) {
+        int pairs = Math.max(1, 32 - Integer.numberOfLeadingZeros(count - 1));
+        ArrayList<gdp2025> keys = new ArrayList<>();
+
+        for (int n = 0; n < (1 << pairs); n++) {
+            StringBuilder country = new StringBuilder();
+            for (int bit = 0; bit < pairs; bit++)
+                country.append(((n >> bit) & 1) == 0 ? "Aa" : "BB");
+            keys.add(new gdp2025(country.toString(), n));
+        }
+        return keys;
+    }
+
+    /**
+     * A country name as a key that is not Comparable, so a flooded bucket
+     * of them stays a chain that every search walks from the head.
+     */
+    private static final class PlainCountry {
+        private final String country;
+
+        PlainCountry(String country) {
+            this.country = country;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof PlainCountry && country.equals(((PlainCountry) obj).country);
+        }
+
+        @Override
+        public int hashCode() {
+            return country.hashCode();
+        }
+    }
+
+    private static final int DEFAULT_NUM_KEYS = 1 << 15;
+    private static final int WINDOWS = 8;
+    private static final int LOOKUPS_PER_KEY = 4;
+
+    /**
+     * The first window in which the last run reseeded, or -1.
+     */
+    private static int reseedWindow;
+}
@@ -0,0 +1,170 @@
+/**************************************************************************
+ * @file: HashDistributionAnalyzer.java
+ * @description: This program measures how evenly each hash function spreads
+ *               a dataset over the buckets of a SeparateChainingHashTable.
+ *               For every hasher and table size it reports the bucket
+ *               occupancy, the empty-bucket ratio, a chi-squared uniformity
+ *               score, and observed vs. expected probes per search. It then
+ *               shows how chains grow while the table is filled in sorted,
+ *               shuffled and reversed order.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+public class HashDistributionAnalyzer {
+    public static void main(String[] args) throws IOException {
+        // Use command line arguments to specify the input file and table sizes
+        if (args.length < 1) {
+            System.err.println("Usage: java HashDistributionAnalyzer <input file> [table sizes...]");
+            System.exit(1);
+        }
+
+        String inputFileName = args[0];
+        ArrayList<gdp2025> dataList = Proj4.readDataset(inputFileName, Integer.MAX_VALUE);
+
+        int[] tableSizes = DEFAULT_TABLE_SIZES;
+        if (args.length > 1) {
+            tableSizes = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++)
+                tableSizes[i - 1] = Integer.parseInt(args[i]);
+        }
+
+        // Print header
+        System.out.println("\n========================================");
+        System.out.println("Hash Distribution Analysis");
+        System.out.println("Dataset: " + inputFileName + " (" + dataList.size() + " entries)");
+        System.out.println("========================================");
+
+        // Probes for searches that must miss
+        ArrayList<gdp2025> misses = new ArrayList<>();
+        for (gdp2025 item : dataList)
+            misses.add(new gdp2025(item.getCountry() + " (missing)", 0));
+
+        for (int size : tableSizes) {
+            System.out.println();
+            for (Hashers hasher : Hashers.values())
+                analyzeDistribution(hasher, size, dataList, misses);
+        }
+
+        // Chain growth while filling a growing table, as Proj4 does
+        ArrayList<gdp2025> sortedList = new ArrayList<>(dataList);
+        Collections.sort(sortedList);
+        ArrayList<gdp2025> shuffledList = new ArrayList<>(dataList);
+        Collections.shuffle(shuffledList, new Random(SHUFFLE_SEED));
+        ArrayList<gdp2025> reversedList = new ArrayList<>(dataList);
+        Collections.sort(reversedList, Collections.reverseOrder());
+
+        System.out.println("\nChain growth while filling (max chain / probes per insert / rehashes at each quarter):");
+        analyzeFill(sortedList, "Sorted");
+        analyzeFill(shuffledList, "Shuffled");
+        analyzeFill(reversedList, "Reversed");
+    }
+
+    /**
+     * Loads the dataset into a table of fixed size, then searches for every
+     * record and for as many absent records, and prints the spread.
+     *
+     * @param hasher the hash function to use on the country names
+     * @param size the requested table size (rounded up to a prime)
+     * @param list the records to load
+     * @param misses records that are not in the table
+     * @return the statistics snapshot after the searches
+     */
+    private static HashTableStats analyzeDistribution(Hashers hasher, int size,
+                                                      ArrayList<gdp2025> list, ArrayList<gdp2025> misses) {
+        // A huge max load factor keeps the table at its initial size
+        SeparateChainingHashTable<gdp2025> table = new SeparateChainingHashTable<>(size,
+                SeparateChainingHashMap.IndexMode.MODULO, Float.MAX_VALUE, 0, hasher.on(gdp2025::getCountry));
+        table.insertAll(list);
+
+        // Count only the probes made by the searches below
+        table.resetStats();
+        for (gdp2025 item : list)
+            table.contains(item);
+        for (gdp2025 item : misses)
+            table.contains(item);
+        HashTableStats stats = table.stats();
+
+        int n = stats.size();
+        int m = stats.capacity();
+        double expected = (double) n / m;
+
+        // Chi-squared against a uniform spread of n keys over m buckets;
+        // for a good hash, chi2 / (m - 1) is close to 1
+        long[] histogram = stats.chainLengthHistogram();
+        double chiSquared = 0;
+        for (int length = 0; length < histogram.length; length++)
+            chiSquared += histogram[length] * (length - expected) * (length - expected) / expected;
+
+        // Uniform hashing: a hit walks half the other keys in its chain,
+        // a miss walks the whole chain
+        double expectedHitProbes = 1 + (n - 1) / (2.0 * m);
+        double expectedMissProbes = expected;
+
+        System.out.printf("%-16s m=%-5d empty: %.3f, chi2/df: %.3f, max chain: %d, "
+                        + "hit probes: %.3f (expected %.3f), miss probes: %.3f (expected %.3f)%n",
+                hasher, m, (double) histogram[0] / m, chiSquared / (m - 1), stats.maxChainLength(),
+                stats.averageProbesPerHit(), expectedHitProbes,
+                stats.averageProbesPerMiss(), expectedMissProbes);
+        System.out.println("                 occupancy (length:buckets):" + occupancy(histogram));
+
+        return stats;
+    }
+
+    /**
+     * Fills a default-sized (growing) table in the given order and prints
+     * the longest chain, the average probes per insert and the rehash
+     * count after each quarter of the list.
+     *
+     * @param list the records in insertion order
+     * @param listType description of the list type (for output)
+     */
+    private static void analyzeFill(ArrayList<gdp2025> list, String listType) {
+        SeparateChainingHashTable<gdp2025> table = new SeparateChainingHashTable<>();
+        StringBuilder line = new StringBuilder();
+
+        int next = 0;
+        long rehashes = 0;
+        for (int quarter = 1; quarter <= 4; quarter++) {
+            int end = list.size() * quarter / 4;
+
+            // Search for (and miss) each record before inserting it, since
+            // only searches are counted; the miss walks the chain the insert will
+            table.resetStats();
+            for (; next < end; next++) {
+                if (!table.contains(list.get(next)))
+                    table.insert(list.get(next));
+            }
+            HashTableStats stats = table.stats();
+            rehashes += stats.rehashCount();
+
+            line.append(String.format("  %d%%: %d / %.3f / %d", 25 * quarter,
+                    stats.maxChainLength(), stats.averageProbesPerMiss(), rehashes));
+        }
+
+        System.out.printf("%-10s -%s%n", listType, line);
+    }
+
+    /**
+     * Formats the non-empty entries of a chain-length histogram.
+     *
+     * @param histogram the bucket count for each chain length
+     * @return the entries as " length:buckets" pairs
+     */
+    private static String occupancy(long[] histogram) {
+        StringBuilder result = new StringBuilder();
+        for (int length = 0; length < histogram.length; length++) {
+            if (histogram[length] != 0)
+                result.append(' ').append(length).append(':').append(histogram[length]);
+        }
+        return result.toString();
+    }
+
+    private static final int[] DEFAULT_TABLE_SIZES = {101, 211, 431};
+    private static final long SHUFFLE_SEED = 42;
+}
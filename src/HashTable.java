@@ -0,0 +1,47 @@
+/**************************************************************************
+ * @file: HashTable.java
+ * @description: This interface lists the operations shared by every hash
+ *               table in this project, so that Proj4 can time different
+ *               collision strategies with the same driver code.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+// HashTable interface
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// AnyType remove( x )    --> Remove x, return the removed item
+// boolean contains( x )  --> Return true if x is present
+// void makeEmpty( )      --> Remove all items
+
+public interface HashTable<AnyType> {
+    /**
+     * Insert into the hash table. If the item is
+     * already present, then do nothing.
+     *
+     * @param x the item to insert.
+     */
+    void insert(AnyType x);
+
+    /**
+     * Remove from the hash table.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    AnyType remove(AnyType x);
+
+    /**
+     * Find an item in the hash table.
+     *
+     * @param x the item to search for.
+     * @return true if x is found, false otherwise.
+     */
+    boolean contains(AnyType x);
+
+    /**
+     * Make the hash table logically empty.
+     */
+    void makeEmpty();
+}
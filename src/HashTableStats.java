@@ -0,0 +1,199 @@
+/**************************************************************************
+ * @file: HashTableStats.java
+ * @description: This class is a snapshot of a chaining hash table's shape
+ *               and counters: size, capacity, load factor, a histogram of
+ *               chain lengths, the longest chain, the average number of
+ *               nodes examined per successful and unsuccessful search, and
+ *               how many rehashes have run and how long they took.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+// HashTableStats class
+//
+// CONSTRUCTION: filled in by SeparateChainingHashMap.stats( )
+//
+// ******************PUBLIC OPERATIONS*********************
+// int size( ), capacity( )        --> Return the number of keys / buckets
+// double loadFactor( )            --> Return size / capacity
+// long[] chainLengthHistogram( )  --> Return the bucket count for each chain length
+// int maxChainLength( )           --> Return the longest chain
+// double averageProbesPerHit( )   --> Return nodes examined per successful search
+// double averageProbesPerMiss( )  --> Return nodes examined per unsuccessful search
+// long frontCacheHits( )          --> Return successful searches served by the front cache
+// long rehashCount( )             --> Return how many rehashes have started
+// long rehashNanos( )             --> Return the time spent rehashing
+
+public class HashTableStats {
+    /**
+     * Construct a snapshot.
+     *
+     * @param size                 the number of keys.
+     * @param capacity             the number of buckets.
+     * @param chainLengthHistogram the number of buckets holding each chain length.
+     * @param hits                 the number of successful searches.
+     * @param hitProbes            the nodes examined by successful searches.
+     * @param frontCacheHits       the successful searches served by the front cache.
+     * @param misses               the number of unsuccessful searches.
+     * @param missProbes           the nodes examined by unsuccessful searches.
+     * @param rehashCount          the number of rehashes started.
+     * @param rehashNanos          the time spent rehashing, in nanoseconds.
+     */
+    HashTableStats(int size, int capacity, long[] chainLengthHistogram,
+                   long hits, long hitProbes, long frontCacheHits, long misses, long missProbes,
+                   long rehashCount, long rehashNanos) {
+        this.size = size;
+        this.capacity = capacity;
+        this.chainLengthHistogram = chainLengthHistogram;
+        this.hits = hits;
+        this.hitProbes = hitProbes;
+        this.frontCacheHits = frontCacheHits;
+        this.misses = misses;
+        this.missProbes = missProbes;
+        this.rehashCount = rehashCount;
+        this.rehashNanos = rehashNanos;
+    }
+
+    /**
+     * Return the number of keys.
+     *
+     * @return the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the number of buckets in the current table.
+     *
+     * @return the capacity.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Return the number of keys per bucket.
+     *
+     * @return size / capacity.
+     */
+    public double loadFactor() {
+        return (double) size / capacity;
+    }
+
+    /**
+     * Return the chain-length histogram: entry i is the number of buckets
+     * holding exactly i keys. A tree bin counts as a chain of its size.
+     *
+     * @return a copy of the histogram.
+     */
+    public long[] chainLengthHistogram() {
+        return chainLengthHistogram.clone();
+    }
+
+    /**
+     * Return the length of the longest chain.
+     *
+     * @return the maximum chain length.
+     */
+    public int maxChainLength() {
+        return chainLengthHistogram.length - 1;
+    }
+
+    /**
+     * Return the average number of nodes examined by a search that found its key.
+     *
+     * @return the average probes per hit, or 0 if there were none.
+     */
+    public double averageProbesPerHit() {
+        return hits == 0 ? 0 : (double) hitProbes / hits;
+    }
+
+    /**
+     * Return the average number of nodes examined by a search that did not find its key.
+     *
+     * @return the average probes per miss, or 0 if there were none.
+     */
+    public double averageProbesPerMiss() {
+        return misses == 0 ? 0 : (double) missProbes / misses;
+    }
+
+    /**
+     * Return the number of successful searches counted.
+     *
+     * @return the hit count.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Return the number of successful searches answered by the front
+     * cache, which examine no chain nodes.
+     *
+     * @return the front cache hit count.
+     */
+    public long frontCacheHits() {
+        return frontCacheHits;
+    }
+
+    /**
+     * Return the number of unsuccessful searches counted.
+     *
+     * @return the miss count.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Return the number of rehashes (growing or shrinking) that have started.
+     *
+     * @return the rehash count.
+     */
+    public long rehashCount() {
+        return rehashCount;
+    }
+
+    /**
+     * Return the time spent allocating new tables and migrating buckets.
+     *
+     * @return the cumulative rehash time in nanoseconds.
+     */
+    public long rehashNanos() {
+        return rehashNanos;
+    }
+
+    /**
+     * Return a multi-line summary of the snapshot.
+     *
+     * @return the summary.
+     */
+    @Override
+    public String toString() {
+        StringBuilder histogram = new StringBuilder();
+        for (int length = 0; length < chainLengthHistogram.length; length++) {
+            if (chainLengthHistogram[length] != 0)
+                histogram.append(' ').append(length).append(':').append(chainLengthHistogram[length]);
+        }
+
+        return String.format("Size: %d, Capacity: %d, Load factor: %.3f, Max chain: %d%n"
+                        + "Chain lengths (length:buckets):%s%n"
+                        + "Probes per hit: %.3f, Probes per miss: %.3f (%d hits, %d from the front cache, %d misses)%n"
+                        + "Rehashes: %d, Rehash time: %.6f s",
+                size, capacity, loadFactor(), maxChainLength(), histogram,
+                averageProbesPerHit(), averageProbesPerMiss(), hits, frontCacheHits, misses,
+                rehashCount, rehashNanos / 1e9);
+    }
+
+    private final int size;
+    private final int capacity;
+    private final long[] chainLengthHistogram;
+    private final long hits;
+    private final long hitProbes;
+    private final long frontCacheHits;
+    private final long misses;
+    private final long missProbes;
+    private final long rehashCount;
+    private final long rehashNanos;
+}
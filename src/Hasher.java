@@ -0,0 +1,41 @@
+/**************************************************************************
+ * @file: Hasher.java
+ * @description: This interface is a hash function strategy. A hash table
+ *               built with a Hasher uses it instead of the keys' own
+ *               hashCode(), so different hash functions can be compared on
+ *               the same keys. Hashers that read part of a key, such as a
+ *               gdp2025's country name, are adapted with on( ).
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.function.Function;
+
+// Hasher interface
+//
+// ******************PUBLIC OPERATIONS*********************
+// int hash( k )                  --> Return the hash code of k
+// Hasher<U> on( f )              --> Return a hasher that hashes f(k)
+
+@FunctionalInterface
+public interface Hasher<T> {
+    /**
+     * Compute a key's hash code. Keys that are equal must get equal hash codes.
+     *
+     * @param key the key to hash.
+     * @return the hash code.
+     */
+    int hash(T key);
+
+    /**
+     * Adapt this hasher to another key type by hashing a part of the key.
+     * The part must decide equality, as the country name does for gdp2025.
+     *
+     * @param extractor the function that picks the part to hash.
+     * @param <U>       the new key type.
+     * @return a hasher for the new key type.
+     */
+    default <U> Hasher<U> on(Function<? super U, ? extends T> extractor) {
+        return key -> hash(extractor.apply(key));
+    }
+}
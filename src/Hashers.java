@@ -0,0 +1,164 @@
+/**************************************************************************
+ * @file: Hashers.java
+ * @description: This enum lists the string hash functions the hash tables
+ *               can be built with: the textbook polynomial from
+ *               SeparateChainingHashTable.hash, Java's String.hashCode,
+ *               String.hashCode scrambled by the MurmurHash3 finalizer, and
+ *               word-at-a-time hashes in the style of wyhash and xxHash32.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+// Hashers enum
+//
+// ******************PUBLIC OPERATIONS*********************
+// int hash( s )                  --> Return the hash code of s
+// Hasher<U> on( f )              --> Return a hasher that hashes f(k)
+// static int fmix32( h )         --> Return h scrambled by the MurmurHash3 finalizer
+
+public enum Hashers implements Hasher<CharSequence> {
+    /**
+     * The polynomial 37 * h + c over the characters, as in the textbook routine.
+     */
+    POLYNOMIAL {
+        @Override
+        public int hash(CharSequence key) {
+            int hashVal = 0;
+
+            for (int i = 0; i < key.length(); i++)
+                hashVal = 37 * hashVal + key.charAt(i);
+
+            return hashVal;
+        }
+    },
+
+    /**
+     * Java's String.hashCode (the polynomial 31 * h + c), which a String caches.
+     */
+    STRING_HASH_CODE {
+        @Override
+        public int hash(CharSequence key) {
+            return key.toString().hashCode();
+        }
+    },
+
+    /**
+     * String.hashCode with every bit scrambled by the MurmurHash3 finalizer.
+     */
+    MURMUR3 {
+        @Override
+        public int hash(CharSequence key) {
+            return fmix32(key.toString().hashCode());
+        }
+    },
+
+    /**
+     * Four characters at a time folded in with wyhash's multiply-and-fold mix.
+     */
+    WYHASH {
+        @Override
+        public int hash(CharSequence key) {
+            int n = key.length();
+            long h = WY_SEED ^ wymix(n ^ WY_P0, WY_P1);
+            int i = 0;
+
+            // Pack four 16-bit characters into each 64-bit word
+            for (; i + 4 <= n; i += 4) {
+                long word = key.charAt(i) | (long) key.charAt(i + 1) << 16
+                        | (long) key.charAt(i + 2) << 32 | (long) key.charAt(i + 3) << 48;
+                h = wymix(word ^ WY_P1, h ^ WY_P2);
+            }
+
+            // Pack the last one to three characters into a final word
+            if (i < n) {
+                long word = 0;
+                for (int shift = 0; i < n; i++, shift += 16)
+                    word |= (long) key.charAt(i) << shift;
+                h = wymix(word ^ WY_P3, h ^ WY_P0);
+            }
+
+            h = wymix(h ^ WY_P1, n ^ WY_P3);
+            return (int) (h ^ (h >>> 32));
+        }
+    },
+
+    /**
+     * Two characters at a time mixed in with xxHash32's multiply-rotate
+     * rounds and finished with its avalanche.
+     */
+    XXHASH {
+        @Override
+        public int hash(CharSequence key) {
+            int n = key.length();
+            int h = XX_P5 + 2 * n;
+            int i = 0;
+
+            // Pack two 16-bit characters into each 32-bit word
+            for (; i + 2 <= n; i += 2) {
+                int word = key.charAt(i) | key.charAt(i + 1) << 16;
+                h += word * XX_P3;
+                h = Integer.rotateLeft(h, 17) * XX_P4;
+            }
+
+            // An odd last character is mixed in on its own
+            if (i < n) {
+                h += key.charAt(i) * XX_P5;
+                h = Integer.rotateLeft(h, 11) * XX_P1;
+            }
+
+            h ^= h >>> 15;
+            h *= XX_P2;
+            h ^= h >>> 13;
+            h *= XX_P3;
+            h ^= h >>> 16;
+            return h;
+        }
+    };
+
+    /**
+     * Scramble a hash code with the MurmurHash3 finalizer, so that every
+     * input bit affects every output bit.
+     *
+     * @param h the hash code.
+     * @return the scrambled hash code.
+     */
+    public static int fmix32(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Multiply two words into 128 bits and fold the halves together with XOR.
+     *
+     * @param a the first word.
+     * @param b the second word.
+     * @return the low and high halves of the unsigned product, XORed.
+     */
+    private static long wymix(long a, long b) {
+        // Math.multiplyHigh is signed; correct it to the unsigned high half
+        long high = Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+        return (a * b) ^ high;
+    }
+
+    /**
+     * The wyhash secret and seed.
+     */
+    private static final long WY_P0 = 0xA0761D6478BD642FL;
+    private static final long WY_P1 = 0xE7037ED1A0B428DBL;
+    private static final long WY_P2 = 0x8EBC6AF09C88C6E3L;
+    private static final long WY_P3 = 0x589965CC75374CC3L;
+    private static final long WY_SEED = 0x1D8E4E27C47D124FL;
+
+    /**
+     * The xxHash32 primes.
+     */
+    private static final int XX_P1 = 0x9E3779B1;
+    private static final int XX_P2 = 0x85EBCA77;
+    private static final int XX_P3 = 0xC2B2AE3D;
+    private static final int XX_P4 = 0x27D4EB2F;
+    private static final int XX_P5 = 0x165667B1;
+}
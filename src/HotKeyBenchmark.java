@@ -0,0 +1,145 @@
+/**************************************************************************
+ * @file: HotKeyBenchmark.java
+ * @description: This program times SeparateChainingHashTable searches under
+ *               skewed traffic, with and without a front cache. Lookups
+ *               follow a Zipf distribution over the dataset ranked by GDP,
+ *               so the largest economies are asked for most often. For each
+ *               skew it reports the time per search and the share of
+ *               searches the front cache answered.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+public class HotKeyBenchmark {
+    public static void main(String[] args) throws IOException {
+        // Use command line arguments to specify the input file
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: java HotKeyBenchmark <input file> [number of lookups]");
+            System.exit(1);
+        }
+
+        String inputFileName = args[0];
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LOOKUPS;
+        ArrayList<gdp2025> dataList = Proj4.readDataset(inputFileName, Integer.MAX_VALUE);
+
+        // Rank the records by GDP, largest first
+        ArrayList<gdp2025> ranked = new ArrayList<>(dataList);
+        Collections.sort(ranked, Comparator.comparingInt(gdp2025::getGdp).reversed());
+
+        // Print header
+        System.out.println("\n========================================");
+        System.out.println("Hot-Key Front Cache Benchmark");
+        System.out.println("Dataset: " + inputFileName + " (" + dataList.size() + " entries)");
+        System.out.println("Lookups per run: " + lookups);
+        System.out.println("========================================\n");
+
+        // Warm every configuration up first, so the JIT has compiled the
+        // front cache path before anything is timed
+        gdp2025[][] queries = new gdp2025[SKEWS.length][];
+        for (int s = 0; s < SKEWS.length; s++) {
+            queries[s] = zipfQueries(ranked, SKEWS[s], lookups, new Random(SEED));
+            for (int slots : FRONT_CACHE_SIZES)
+                runLookups(dataList, queries[s], slots);
+        }
+
+        for (int s = 0; s < SKEWS.length; s++) {
+            StringBuilder line = new StringBuilder();
+            for (int slots : FRONT_CACHE_SIZES) {
+                SeparateChainingHashTable<gdp2025> table = new SeparateChainingHashTable<>();
+                double nanos = runLookups(dataList, queries[s], slots, table);
+                HashTableStats stats = table.stats();
+
+                line.append(String.format("  %s: %.2f ns (%.0f%% cached)",
+                        slots == 0 ? "none" : slots + " slots", nanos,
+                        100.0 * stats.frontCacheHits() / Math.max(1, stats.hits())));
+            }
+            System.out.printf("Zipf s=%.1f -%s%n", SKEWS[s], line);
+        }
+    }
+
+    /**
+     * Runs the lookups on a fresh table.
+     *
+     * @param list the records to load
+     * @param queries the records to search for
+     * @param slots the front cache size, or 0 for none
+     * @return the average time per search in nanoseconds
+     */
+    private static double runLookups(ArrayList<gdp2025> list, gdp2025[] queries, int slots) {
+        return runLookups(list, queries, slots, new SeparateChainingHashTable<>());
+    }
+
+    /**
+     * Loads the records into a table, then times the searches. The
+     * search counters are reset first, so the table's stats describe
+     * only the timed searches.
+     *
+     * @param list the records to load
+     * @param queries the records to search for
+     * @param slots the front cache size, or 0 for none
+     * @param table the empty table to use
+     * @return the average time per search in nanoseconds
+     */
+    private static double runLookups(ArrayList<gdp2025> list, gdp2025[] queries, int slots,
+                                     SeparateChainingHashTable<gdp2025> table) {
+        table.insertAll(list);
+        if (slots > 0)
+            table.enableFrontCache(slots);
+        table.resetStats();
+
+        int found = 0;
+        long startTime = System.nanoTime();
+        for (gdp2025 query : queries) {
+            if (table.contains(query))
+                found++;
+        }
+        long endTime = System.nanoTime();
+
+        if (found != queries.length)
+            System.out.println("OOPS!!! found " + found + " records");
+
+        return (double) (endTime - startTime) / queries.length;
+    }
+
+    /**
+     * Draws search keys from a Zipf distribution: the record of rank k
+     * (from 1) is chosen with probability proportional to 1 / k^skew.
+     * Each key is a copy, so searches compare by equals, not identity.
+     *
+     * @param ranked the records, most popular first
+     * @param skew the Zipf exponent; 0 is uniform
+     * @param count the number of keys to draw
+     * @param random the source of randomness
+     * @return the search keys
+     */
+    private static gdp2025[] zipfQueries(ArrayList<gdp2025> ranked, double skew, int count, Random random) {
+        // Cumulative weights, searched by binary search for each draw
+        double[] cumulative = new double[ranked.size()];
+        double total = 0;
+        for (int k = 0; k < cumulative.length; k++) {
+            total += 1 / Math.pow(k + 1, skew);
+            cumulative[k] = total;
+        }
+
+        gdp2025[] queries = new gdp2025[count];
+        for (int i = 0; i < count; i++) {
+            int k = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            if (k < 0)
+                k = -k - 1;
+            queries[i] = new gdp2025(ranked.get(Math.min(k, cumulative.length - 1)));
+        }
+        return queries;
+    }
+
+    private static final int DEFAULT_LOOKUPS = 2000000;
+    private static final double[] SKEWS = {0.0, 0.8, 1.0, 1.2, 1.5};
+    private static final int[] FRONT_CACHE_SIZES = {0, 16, 64, 256};
+    private static final long SEED = 42;
+}
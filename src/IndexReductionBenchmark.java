@@ -0,0 +1,123 @@
+/**************************************************************************
+ * @file: IndexReductionBenchmark.java
+ * @description: This program compares the ways SeparateChainingHashTable
+ *               can reduce a hash code to a bucket index: prime sizes with %,
+ *               prime sizes with multiply-high fastmod, and power-of-two sizes
+ *               with a bit mixer and a mask. It times the Integer stress test
+ *               pattern and the gdp2025 insert/search/delete workload.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class IndexReductionBenchmark {
+    public static void main(String[] args) throws IOException {
+        // Use command line arguments to specify the input file
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: java IndexReductionBenchmark <input file> [number of integer keys]");
+            System.exit(1);
+        }
+
+        String inputFileName = args[0];
+        int nums = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMS;
+        ArrayList<gdp2025> dataList = Proj4.readDataset(inputFileName, Integer.MAX_VALUE);
+
+        // Print header
+        System.out.println("\n========================================");
+        System.out.println("Bucket Index Reduction Benchmark");
+        System.out.println("Dataset: " + inputFileName + " (" + dataList.size() + " entries)");
+        System.out.println("Integer keys: " + nums);
+        System.out.println("========================================\n");
+
+        for (SeparateChainingHashMap.IndexMode mode : SeparateChainingHashMap.IndexMode.values()) {
+            // Warm up, then time
+            integerWorkload(mode, nums);
+            gdpWorkload(mode, dataList);
+
+            double integerNanos = integerWorkload(mode, nums);
+            double gdpNanos = gdpWorkload(mode, dataList);
+
+            System.out.printf("%-13s - Integer: %.2f ns/op, gdp2025: %.2f ns/op%n",
+                    mode, integerNanos, gdpNanos);
+        }
+    }
+
+    /**
+     * Runs the TestSeparateChainingHashTable access pattern.
+     *
+     * @param mode the index mode to use
+     * @param nums the key range (must not be a multiple of GAP)
+     * @return the average time per operation in nanoseconds
+     */
+    private static double integerWorkload(SeparateChainingHashMap.IndexMode mode, int nums) {
+        SeparateChainingHashTable<Integer> table = new SeparateChainingHashTable<>(DEFAULT_TABLE_SIZE, mode);
+        long operations = 0;
+        int found = 0;
+
+        long startTime = System.nanoTime();
+
+        // Insert nums keys, but only nums/2 distinct keys
+        for (int i = GAP; i != 0; i = (int) (((long) i + GAP) % nums)) {
+            table.insert(i);
+            operations++;
+        }
+
+        // Remove the odd numbers
+        for (int i = 1; i < nums; i += 2) {
+            table.remove(i);
+            operations++;
+        }
+
+        // Look up every number
+        for (int i = 1; i < nums; i++) {
+            if (table.contains(i))
+                found++;
+            operations++;
+        }
+
+        long endTime = System.nanoTime();
+
+        if (found != (nums - 1) / 2)
+            System.out.println("OOPS!!! found " + found + " keys");
+
+        return (double) (endTime - startTime) / operations;
+    }
+
+    /**
+     * Runs the Proj4 insert/search/delete pattern over the dataset,
+     * GDP_ROUNDS times on one table.
+     *
+     * @param mode the index mode to use
+     * @param list the records to use
+     * @return the average time per operation in nanoseconds
+     */
+    private static double gdpWorkload(SeparateChainingHashMap.IndexMode mode, ArrayList<gdp2025> list) {
+        SeparateChainingHashTable<gdp2025> table = new SeparateChainingHashTable<>(DEFAULT_TABLE_SIZE, mode);
+        int found = 0;
+
+        long startTime = System.nanoTime();
+        for (int round = 0; round < GDP_ROUNDS; round++) {
+            for (gdp2025 item : list)
+                table.insert(item);
+            for (gdp2025 item : list) {
+                if (table.contains(item))
+                    found++;
+            }
+            for (gdp2025 item : list)
+                table.remove(item);
+        }
+        long endTime = System.nanoTime();
+
+        if (found != GDP_ROUNDS * list.size())
+            System.out.println("OOPS!!! found " + found + " records");
+
+        return (double) (endTime - startTime) / (3L * GDP_ROUNDS * list.size());
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 101;
+    private static final int DEFAULT_NUMS = 2000000;
+    private static final int GAP = 37;
+    private static final int GDP_ROUNDS = 2000;
+}
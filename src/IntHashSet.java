@@ -0,0 +1,241 @@
+/**************************************************************************
+ * @file: IntHashSet.java
+ * @description: This program implements a hash set specialized for int
+ *               keys. Keys are stored unboxed in a single int array using
+ *               linear probing with backward-shift deletion, so inserting a
+ *               key never allocates and a probe never follows a pointer.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.Arrays;
+
+// IntHashSet class
+//
+// CONSTRUCTION: an approximate initial size or default of 128
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// void remove( x )       --> Remove x
+// boolean contains( x )  --> Return true if x is present
+// void makeEmpty( )      --> Remove all items
+// int size( )            --> Return the number of items
+
+public class IntHashSet {
+    /**
+     * Construct the hash set.
+     */
+    public IntHashSet() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Construct the hash set.
+     *
+     * @param size approximate table size; pass the expected number of
+     *             keys divided by the load factor to avoid any resizing.
+     */
+    public IntHashSet(int size) {
+        allocateArray(nextPowerOfTwo(Math.min(size, MAX_TABLE_SIZE)));
+    }
+
+    /**
+     * Insert into the hash set. If the key is
+     * already present, then do nothing.
+     *
+     * @param x the key to insert.
+     * @throws IllegalStateException if the set is at its largest size and
+     *                               has no free slot left to spare.
+     */
+    public void insert(int x) {
+        // FREE marks an empty slot, so that key is tracked on the side
+        if (x == FREE) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                currentSize++;
+            }
+            return;
+        }
+
+        int pos = homeSlot(x);
+        while (theKeys[pos] != FREE) {
+            if (theKeys[pos] == x)
+                return;
+            pos = (pos + 1) & mask;
+        }
+
+        // A table that can not grow fills past the load factor, but one
+        // slot must stay free so that every probe ends
+        if (currentSize - (hasFreeKey ? 1 : 0) == mask)
+            throw new IllegalStateException("IntHashSet is full at " + theKeys.length + " slots");
+
+        theKeys[pos] = x;
+        currentSize++;
+
+        // Grow if the load factor exceeds the maximum and there is room
+        if (currentSize > maxLoadSize && theKeys.length < MAX_TABLE_SIZE)
+            rehash();
+    }
+
+    /**
+     * Remove from the hash set.
+     *
+     * @param x the key to remove.
+     */
+    public void remove(int x) {
+        if (x == FREE) {
+            if (hasFreeKey) {
+                hasFreeKey = false;
+                currentSize--;
+            }
+            return;
+        }
+
+        int pos = findPos(x);
+        if (pos < 0)
+            return;
+
+        // Backward-shift later keys whose probe sequence passes through pos
+        int next = (pos + 1) & mask;
+        while (theKeys[next] != FREE) {
+            int home = homeSlot(theKeys[next]);
+
+            // Move the key unless its home lies cyclically in (pos, next]
+            if (((next - home) & mask) >= ((next - pos) & mask)) {
+                theKeys[pos] = theKeys[next];
+                pos = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        theKeys[pos] = FREE;
+        currentSize--;
+    }
+
+    /**
+     * Find a key in the hash set.
+     *
+     * @param x the key to search for.
+     * @return true if x is found, false otherwise.
+     */
+    public boolean contains(int x) {
+        if (x == FREE)
+            return hasFreeKey;
+
+        return findPos(x) >= 0;
+    }
+
+    /**
+     * Make the hash set logically empty.
+     */
+    public void makeEmpty() {
+        Arrays.fill(theKeys, FREE);
+        hasFreeKey = false;
+        currentSize = 0;
+    }
+
+    /**
+     * Return the number of keys in the hash set.
+     *
+     * @return the number of keys.
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Find the slot that holds x.
+     *
+     * @param x the key to search for (not FREE).
+     * @return the slot index, or -1 if x is not present.
+     */
+    private int findPos(int x) {
+        int pos = homeSlot(x);
+        while (theKeys[pos] != FREE) {
+            if (theKeys[pos] == x)
+                return pos;
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Rehash the set by creating a new table twice the size
+     * and reinserting all keys from the old table.
+     */
+    private void rehash() {
+        // Save the old table
+        int[] oldKeys = theKeys;
+
+        // Create a new, larger table
+        allocateArray(2 * oldKeys.length);
+
+        // Copy keys from old table to new table; they are all distinct
+        for (int key : oldKeys) {
+            if (key != FREE) {
+                int pos = homeSlot(key);
+                while (theKeys[pos] != FREE)
+                    pos = (pos + 1) & mask;
+                theKeys[pos] = key;
+            }
+        }
+    }
+
+    /**
+     * Allocate the slot array and derived fields for a given capacity.
+     *
+     * @param capacity the number of slots (a power of two).
+     */
+    private void allocateArray(int capacity) {
+        theKeys = new int[capacity];
+        if (FREE != 0)
+            Arrays.fill(theKeys, FREE);
+        mask = capacity - 1;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        maxLoadSize = (int) (capacity * MAX_LOAD);
+    }
+
+    /**
+     * Map a key to its home slot using Fibonacci hashing, so that
+     * sequential keys are spread across the table.
+     *
+     * @param x the key.
+     * @return the home slot index.
+     */
+    private int homeSlot(int x) {
+        return (x * 0x9E3779B9) >>> shift;
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 128;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+    private static final double MAX_LOAD = 0.75;
+
+    /**
+     * The key used to mark an empty slot.
+     */
+    private static final int FREE = 0;
+
+    /**
+     * The array of keys.
+     */
+    private int[] theKeys;
+    private boolean hasFreeKey;
+    private int currentSize;
+    private int maxLoadSize;
+    private int mask;
+    private int shift;
+
+    /**
+     * Internal method to find a power of two at least as large as n.
+     *
+     * @param n the starting number.
+     * @return a power of two larger than or equal to n (at least 2).
+     */
+    private static int nextPowerOfTwo(int n) {
+        if (n <= 2)
+            return 2;
+
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+
+}
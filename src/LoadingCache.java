@@ -0,0 +1,511 @@
+/**************************************************************************
+ * @file: LoadingCache.java
+ * @description: This program implements a thread-safe loading cache over
+ *               lock-striped SeparateChainingHashMaps. A miss maps the key
+ *               to an incomplete future before the loader runs, so when
+ *               many threads miss on the same key only the first one loads
+ *               and the rest wait for its result. Entries older than the
+ *               refresh interval are reloaded in the background while the
+ *               old value is still served, and getAll claims all its
+ *               missing keys before loading them in one bulk call.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// LoadingCache class
+//
+// CONSTRUCTION: a loader, and optionally a bulk loader, a refresh
+//               interval and an Executor for refreshes
+//
+// ******************PUBLIC OPERATIONS*********************
+// V get( k )                     --> Return k's value, loading it once if absent
+// Map<K,V> getAll( c )           --> Return the values of every key in c
+// V getIfPresent( k )            --> Return k's loaded value, or null
+// void invalidate( k )           --> Remove k
+// void invalidateAll( )          --> Remove all entries
+// int size( )                    --> Return the number of entries
+// long loadCount( )              --> Return how many times a loader has run
+
+public class LoadingCache<K, V> {
+    /**
+     * Construct a cache that never refreshes its entries.
+     *
+     * @param loader the function that loads a missing key's value.
+     */
+    public LoadingCache(Function<? super K, ? extends V> loader) {
+        this(loader, null, 0, TimeUnit.NANOSECONDS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a cache that reloads entries in the background once they
+     * are older than refreshAfter.
+     *
+     * @param loader       the function that loads a missing key's value.
+     * @param refreshAfter the age at which an entry is reloaded, or 0 for never.
+     * @param unit         the unit of refreshAfter.
+     * @param executor     the executor that runs the reloads.
+     */
+    public LoadingCache(Function<? super K, ? extends V> loader,
+                        long refreshAfter, TimeUnit unit, Executor executor) {
+        this(loader, null, refreshAfter, unit, executor);
+    }
+
+    /**
+     * Construct a cache with a bulk loader for getAll.
+     *
+     * @param loader       the function that loads a missing key's value.
+     * @param bulkLoader   the function that loads the values of a set of
+     *                     missing keys in one call, or null to use loader
+     *                     for each key.
+     * @param refreshAfter the age at which an entry is reloaded, or 0 for never.
+     * @param unit         the unit of refreshAfter.
+     * @param executor     the executor that runs the reloads.
+     * @throws IllegalArgumentException if refreshAfter is negative.
+     */
+    public LoadingCache(Function<? super K, ? extends V> loader,
+                        Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> bulkLoader,
+                        long refreshAfter, TimeUnit unit, Executor executor) {
+        if (refreshAfter < 0)
+            throw new IllegalArgumentException("refreshAfter must not be negative: " + refreshAfter);
+
+        this.loader = loader;
+        this.bulkLoader = bulkLoader;
+        this.refreshAfterNanos = unit.toNanos(refreshAfter);
+        this.executor = executor;
+
+        segments = new Segment[STRIPES];
+        for (int i = 0; i < segments.length; i++)
+            segments[i] = new Segment<>();
+    }
+
+    /**
+     * Return a key's value. If the key is absent, the first thread to ask
+     * runs the loader and every other thread asking meanwhile waits for
+     * its result. A loader must not ask for the key it is loading.
+     *
+     * @param key the key to look up.
+     * @return the value, or null if the loader returned null (which is not cached).
+     * @throws RuntimeException whatever the loader threw; the key is not
+     *                          cached, so the next get tries again.
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        Entry<V> entry;
+        boolean owner = false;
+
+        segment.lock.lock();
+        try {
+            entry = segment.map.get(key);
+            if (entry == null) {
+                entry = new Entry<>();
+                segment.map.put(key, entry);
+                owner = true;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+
+        // The loader runs outside the lock
+        if (owner)
+            load(key, entry);
+        else
+            refreshIfDue(key, entry);
+
+        return await(entry.future);
+    }
+
+    /**
+     * Return the values of a collection of keys. Every missing key is
+     * claimed before any is loaded, so other threads wait for this load
+     * rather than starting their own; the claimed keys are then loaded
+     * by one call of the bulk loader.
+     *
+     * @param keys the keys to look up.
+     * @return the keys' values, in the order of keys, without the keys
+     *         whose value is null.
+     * @throws RuntimeException whatever a loader threw.
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys) {
+        Map<K, Entry<V>> entries = new LinkedHashMap<>();
+        Map<K, Entry<V>> claimed = new LinkedHashMap<>();
+
+        for (K key : keys) {
+            if (entries.containsKey(key))
+                continue;
+
+            Segment<K, V> segment = segmentFor(key);
+            segment.lock.lock();
+            try {
+                Entry<V> entry = segment.map.get(key);
+                if (entry == null) {
+                    entry = new Entry<>();
+                    segment.map.put(key, entry);
+                    claimed.put(key, entry);
+                }
+                entries.put(key, entry);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+
+        // Load what this thread claimed before waiting for anyone else
+        if (!claimed.isEmpty())
+            loadAll(claimed);
+
+        Map<K, V> result = new LinkedHashMap<>();
+        for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+            if (!claimed.containsKey(e.getKey()))
+                refreshIfDue(e.getKey(), e.getValue());
+
+            V value = await(e.getValue().future);
+            if (value != null)
+                result.put(e.getKey(), value);
+        }
+        return result;
+    }
+
+    /**
+     * Return a key's value if it has been loaded, without loading it or
+     * waiting for a load in progress.
+     *
+     * @param key the key to look up.
+     * @return the value, or null if it is absent or still loading.
+     */
+    public V getIfPresent(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        Entry<V> entry;
+
+        segment.lock.lock();
+        try {
+            entry = segment.map.get(key);
+        } finally {
+            segment.lock.unlock();
+        }
+
+        if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally())
+            return null;
+        refreshIfDue(key, entry);
+        return entry.future.join();
+    }
+
+    /**
+     * Remove a key. A load already in progress still completes for the
+     * threads waiting on it, but its value is not cached.
+     *
+     * @param key the key to remove.
+     */
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.map.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries, one segment at a time.
+     */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.makeEmpty();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Count the entries, including those still loading. Under concurrent
+     * updates the result is a sum of per-segment counts, not an atomic
+     * snapshot.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        int total = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                total += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Return how many times a loader has been called, counting each bulk
+     * load and each background reload once.
+     *
+     * @return the number of loads.
+     */
+    public long loadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * Run the loader for a claimed key and complete its future. A failed
+     * load is removed so the next request tries again.
+     *
+     * @param key   the key to load.
+     * @param entry the entry this thread claimed for it.
+     */
+    private void load(K key, Entry<V> entry) {
+        loadCount.incrementAndGet();
+        try {
+            complete(key, entry, loader.apply(key));
+        } catch (RuntimeException | Error e) {
+            fail(key, entry, e);
+        }
+    }
+
+    /**
+     * Load a set of claimed keys, with one call of the bulk loader if
+     * there is one, and complete every claimed future.
+     *
+     * @param claimed the keys this thread claimed, with their entries.
+     */
+    private void loadAll(Map<K, Entry<V>> claimed) {
+        if (bulkLoader == null) {
+            for (Map.Entry<K, Entry<V>> e : claimed.entrySet())
+                load(e.getKey(), e.getValue());
+            return;
+        }
+
+        loadCount.incrementAndGet();
+        try {
+            Map<? extends K, ? extends V> loaded =
+                    bulkLoader.apply(Collections.unmodifiableSet(claimed.keySet()));
+
+            // A key the bulk loader left out, or every key if it returned
+            // null, gets null, which is not cached
+            for (Map.Entry<K, Entry<V>> e : claimed.entrySet())
+                complete(e.getKey(), e.getValue(), loaded == null ? null : loaded.get(e.getKey()));
+        } catch (RuntimeException | Error e) {
+            // The loader or its map failed; fail every claim not yet completed
+            for (Map.Entry<K, Entry<V>> claim : claimed.entrySet()) {
+                if (!claim.getValue().future.isDone())
+                    fail(claim.getKey(), claim.getValue(), e);
+            }
+        }
+    }
+
+    /**
+     * Publish a loaded value to the threads waiting on an entry. A null
+     * value is passed on but not cached.
+     *
+     * @param key   the loaded key.
+     * @param entry the key's entry.
+     * @param value the loaded value.
+     */
+    private void complete(K key, Entry<V> entry, V value) {
+        entry.loadedAt = System.nanoTime();
+        if (value == null)
+            removeIfMapped(key, entry);
+        entry.future.complete(value);
+    }
+
+    /**
+     * Pass a loader's failure to the threads waiting on an entry, and
+     * remove the entry.
+     *
+     * @param key   the key that failed to load.
+     * @param entry the key's entry.
+     * @param e     what the loader threw.
+     */
+    private void fail(K key, Entry<V> entry, Throwable e) {
+        removeIfMapped(key, entry);
+        entry.future.completeExceptionally(e);
+    }
+
+    /**
+     * Remove a key only if it still maps to the given entry, so that a
+     * newer entry made after an invalidate is left alone.
+     *
+     * @param key   the key to remove.
+     * @param entry the entry it must map to.
+     */
+    private void removeIfMapped(K key, Entry<V> entry) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            if (segment.map.get(key) == entry)
+                segment.map.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Start a background reload of a loaded entry if it is older than the
+     * refresh interval and no reload is already running. Until the reload
+     * finishes, the old value keeps being returned.
+     *
+     * @param key   the key to check.
+     * @param entry the key's entry.
+     */
+    private void refreshIfDue(K key, Entry<V> entry) {
+        if (refreshAfterNanos == 0 || !entry.future.isDone()
+                || System.nanoTime() - entry.loadedAt < refreshAfterNanos)
+            return;
+
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            if (entry.refreshing || segment.map.get(key) != entry)
+                return;
+            entry.refreshing = true;
+        } finally {
+            segment.lock.unlock();
+        }
+
+        try {
+            executor.execute(() -> reload(key, entry));
+        } catch (RejectedExecutionException e) {
+            // Try again on a later request
+            segment.lock.lock();
+            try {
+                entry.refreshing = false;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Reload an entry's value on the executor. If the loader fails, the
+     * old value is kept and a later request tries again; an Error is
+     * still passed on to the executor, but only after the entry is free
+     * to be refreshed again.
+     *
+     * @param key   the key to reload.
+     * @param entry the key's entry.
+     */
+    private void reload(K key, Entry<V> entry) {
+        loadCount.incrementAndGet();
+        V value = null;
+        boolean loaded = false;
+        try {
+            value = loader.apply(key);
+            loaded = true;
+        } catch (RuntimeException e) {
+            // Keep serving the old value
+        } finally {
+            finishReload(key, entry, loaded, value);
+        }
+    }
+
+    /**
+     * End a reload: clear the entry's refreshing flag and, if the loader
+     * succeeded and the key still maps to the entry, publish the value.
+     *
+     * @param key    the reloaded key.
+     * @param entry  the key's entry.
+     * @param loaded whether the loader returned normally.
+     * @param value  the reloaded value.
+     */
+    private void finishReload(K key, Entry<V> entry, boolean loaded, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            entry.refreshing = false;
+            if (!loaded || segment.map.get(key) != entry)
+                return;
+
+            if (value == null) {
+                segment.map.remove(key);
+            } else {
+                entry.loadedAt = System.nanoTime();
+                entry.future = CompletableFuture.completedFuture(value);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Wait for a future, rethrowing the loader's own exception.
+     *
+     * @param future the future to wait for.
+     * @return its value.
+     */
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Find the segment that owns a key, from the top bits of its mixed
+     * hash code.
+     *
+     * @param key the key.
+     * @return the owning segment.
+     */
+    private Segment<K, V> segmentFor(Object key) {
+        int hashVal = key.hashCode() * 0x9E3779B9;
+        return segments[(hashVal ^ (hashVal >>> 16)) >>> (32 - STRIPE_BITS)];
+    }
+
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    /**
+     * The lock stripes; each one owns a private map.
+     */
+    private final Segment<K, V>[] segments;
+
+    private final Function<? super K, ? extends V> loader;
+    private final Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> bulkLoader;
+    private final long refreshAfterNanos;
+    private final Executor executor;
+    private final AtomicLong loadCount = new AtomicLong();
+
+    /**
+     * One lock stripe: a SeparateChainingHashMap, which is not itself
+     * thread-safe, used only while holding the stripe's lock. Loaders
+     * never run with the lock held.
+     */
+    private static final class Segment<K, V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final SeparateChainingHashMap<K, Entry<V>> map = new SeparateChainingHashMap<>();
+    }
+
+    /**
+     * A key's value as a future, so waiters can block on a load in
+     * progress, with the time it was loaded and whether a reload is
+     * running (guarded by the segment lock).
+     */
+    private static final class Entry<V> {
+        volatile CompletableFuture<V> future = new CompletableFuture<>();
+        volatile long loadedAt;
+        boolean refreshing;
+    }
+}
@@ -0,0 +1,395 @@
+/**************************************************************************
+ * @file: LockFreeHashTable.java
+ * @description: This program implements a non-blocking hash table using a
+ *               split-ordered list (Shalev and Shavit). Every item lives in
+ *               one lock-free linked list sorted by bit-reversed hash code;
+ *               buckets are shortcut sentinel nodes into that list. Growing
+ *               the table only doubles the bucket count, and new buckets are
+ *               split off lazily, so no item is ever moved and no thread ever
+ *               waits on another. Deletion marks a node (by swinging its next
+ *               link to a marker node) before unlinking it.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+// LockFree Hash table class
+//
+// CONSTRUCTION: no initializer
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// AnyType remove( x )    --> Remove x, return the removed item
+// boolean contains( x )  --> Return true if x is present
+// void makeEmpty( )      --> Remove all items
+// int size( )            --> Return the number of items
+
+public class LockFreeHashTable<AnyType> implements HashTable<AnyType> {
+    /**
+     * Construct the hash table.
+     */
+    public LockFreeHashTable() {
+        state = new State<>();
+    }
+
+    /**
+     * Insert into the hash table. If the item is
+     * already present, then do nothing. Double the
+     * bucket count if the load factor is exceeded.
+     *
+     * @param x the item to insert.
+     */
+    public void insert(AnyType x) {
+        State<AnyType> s = state;
+        int hashVal = spread(x.hashCode());
+        int buckets = s.bucketSize.get();
+        Node<AnyType> head = getBucket(s, hashVal & (buckets - 1));
+
+        Node<AnyType> node = new Node<>(ordinaryKey(hashVal), x);
+        if (addNode(head, node) != node)
+            return;
+
+        // Grow by publishing a larger bucket count; the new buckets are
+        // initialized on demand by whichever thread first touches them
+        int size = s.setSize.incrementAndGet();
+        if (size > buckets * MAX_LOAD && buckets < MAX_BUCKETS)
+            s.bucketSize.compareAndSet(buckets, 2 * buckets);
+    }
+
+    /**
+     * Remove from the hash table.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    public AnyType remove(AnyType x) {
+        State<AnyType> s = state;
+        int hashVal = spread(x.hashCode());
+        Node<AnyType> head = getBucket(s, hashVal & (s.bucketSize.get() - 1));
+
+        AnyType removed = removeNode(head, ordinaryKey(hashVal), x);
+        if (removed != null)
+            s.setSize.decrementAndGet();
+        return removed;
+    }
+
+    /**
+     * Find an item in the hash table. This never writes
+     * to shared memory apart from initializing a bucket.
+     *
+     * @param x the item to search for.
+     * @return true if x is found, false otherwise.
+     */
+    public boolean contains(AnyType x) {
+        State<AnyType> s = state;
+        int hashVal = spread(x.hashCode());
+        int key = ordinaryKey(hashVal);
+        Node<AnyType> curr = getBucket(s, hashVal & (s.bucketSize.get() - 1));
+
+        // Walk the sorted list until we pass x's position
+        while (curr != null) {
+            int c = Integer.compareUnsigned(curr.key, key);
+            if (c > 0)
+                return false;
+
+            Node<AnyType> succ = curr.next;
+            boolean deleted = succ != null && succ.isMarker();
+            if (c == 0 && !deleted && x.equals(curr.element))
+                return true;
+            curr = deleted ? succ.next : succ;
+        }
+        return false;
+    }
+
+    /**
+     * Make the hash table logically empty by publishing a fresh list.
+     * Operations that were already running may finish against the old
+     * list, so this is only meant for quiescent points between phases.
+     */
+    public void makeEmpty() {
+        state = new State<>();
+    }
+
+    /**
+     * Count the items in the hash table.
+     *
+     * @return the number of items.
+     */
+    public int size() {
+        return state.setSize.get();
+    }
+
+    /**
+     * Find the sentinel node for a bucket, initializing it if needed.
+     *
+     * @param s      the current table state.
+     * @param bucket the bucket index.
+     * @return the bucket's sentinel node.
+     */
+    private static <AnyType> Node<AnyType> getBucket(State<AnyType> s, int bucket) {
+        AtomicReferenceArray<Node<AnyType>> segment = s.segments.get(bucket / SEGMENT_SIZE);
+        if (segment == null) {
+            s.segments.compareAndSet(bucket / SEGMENT_SIZE, null, new AtomicReferenceArray<>(SEGMENT_SIZE));
+            segment = s.segments.get(bucket / SEGMENT_SIZE);
+        }
+
+        Node<AnyType> sentinel = segment.get(bucket % SEGMENT_SIZE);
+        if (sentinel == null)
+            sentinel = initializeBucket(s, segment, bucket);
+        return sentinel;
+    }
+
+    /**
+     * Split a new bucket off its parent by inserting a sentinel node into
+     * the list. Threads racing on the same bucket agree on one sentinel.
+     *
+     * @param s       the current table state.
+     * @param segment the directory segment holding the bucket.
+     * @param bucket  the bucket index.
+     * @return the bucket's sentinel node.
+     */
+    private static <AnyType> Node<AnyType> initializeBucket(State<AnyType> s,
+                                                           AtomicReferenceArray<Node<AnyType>> segment,
+                                                           int bucket) {
+        // The parent is the bucket with the highest set bit cleared
+        int parent = bucket & ~Integer.highestOneBit(bucket);
+        Node<AnyType> parentSentinel = getBucket(s, parent);
+
+        Node<AnyType> sentinel = addNode(parentSentinel, new Node<>(sentinelKey(bucket), null));
+        segment.compareAndSet(bucket % SEGMENT_SIZE, null, sentinel);
+        return segment.get(bucket % SEGMENT_SIZE);
+    }
+
+    /**
+     * Insert a node into the sorted list, starting from a sentinel.
+     *
+     * @param head the sentinel to start from.
+     * @param node the node to insert.
+     * @return node if it was inserted, otherwise the node already present.
+     */
+    private static <AnyType> Node<AnyType> addNode(Node<AnyType> head, Node<AnyType> node) {
+        while (true) {
+            Window<AnyType> window = find(head, node.key, node.element);
+            if (window.found)
+                return window.curr;
+
+            node.next = window.curr;
+            if (NEXT.compareAndSet(window.pred, window.curr, node))
+                return node;
+        }
+    }
+
+    /**
+     * Remove an item from the sorted list, starting from a sentinel. The
+     * node is first marked (the logical delete), then unlinked; if the
+     * unlink loses a race, a later traversal finishes it.
+     *
+     * @param head the sentinel to start from.
+     * @param key  the split-order key of x.
+     * @param x    the item to remove.
+     * @return the stored item if this call removed it, otherwise null.
+     */
+    private static <AnyType> AnyType removeNode(Node<AnyType> head, int key, AnyType x) {
+        while (true) {
+            Window<AnyType> window = find(head, key, x);
+            if (!window.found)
+                return null;
+
+            // Another thread may have marked it first; find will unlink it
+            Node<AnyType> succ = window.curr.next;
+            if (succ != null && succ.isMarker())
+                continue;
+            if (!NEXT.compareAndSet(window.curr, succ, new Node<>(succ)))
+                continue;
+
+            NEXT.compareAndSet(window.pred, window.curr, succ);
+            return window.curr.element;
+        }
+    }
+
+    /**
+     * Locate the window (pred, curr) where curr is either the node holding
+     * x or the first node ordered after it. Marked nodes met on the way
+     * are unlinked.
+     *
+     * @param head the sentinel to start from.
+     * @param key  the split-order key.
+     * @param x    the item, or null when looking for a sentinel.
+     * @return the window.
+     */
+    private static <AnyType> Window<AnyType> find(Node<AnyType> head, int key, AnyType x) {
+        retry:
+        while (true) {
+            Node<AnyType> pred = head;
+            Node<AnyType> curr = pred.next;
+
+            while (curr != null) {
+                Node<AnyType> succ = curr.next;
+
+                // Help finish a logical delete before moving past it; the
+                // CAS fails if pred itself has been marked in the meantime
+                if (succ != null && succ.isMarker()) {
+                    if (!NEXT.compareAndSet(pred, curr, succ.next))
+                        continue retry;
+                    curr = succ.next;
+                    continue;
+                }
+
+                int c = Integer.compareUnsigned(curr.key, key);
+                if (c > 0)
+                    return new Window<>(pred, curr, false);
+                if (c == 0 && (x == null ? curr.element == null : x.equals(curr.element)))
+                    return new Window<>(pred, curr, true);
+
+                pred = curr;
+                curr = succ;
+            }
+            return new Window<>(pred, null, false);
+        }
+    }
+
+    /**
+     * Split-order key for an item: the reversed hash with the top bit
+     * set, so it sorts just after its bucket's sentinel and is odd.
+     *
+     * @param hashVal the 31-bit spread hash code.
+     * @return the split-order key.
+     */
+    private static int ordinaryKey(int hashVal) {
+        return Integer.reverse(hashVal | 0x80000000);
+    }
+
+    /**
+     * Split-order key for a bucket sentinel: the reversed bucket index,
+     * which is always even.
+     *
+     * @param bucket the bucket index.
+     * @return the split-order key.
+     */
+    private static int sentinelKey(int bucket) {
+        return Integer.reverse(bucket);
+    }
+
+    /**
+     * Mix the bits of a hash code and keep the low 31 bits.
+     *
+     * @param hashVal the item's hash code.
+     * @return the spread hash code.
+     */
+    private static int spread(int hashVal) {
+        hashVal *= 0x9E3779B9;
+        return (hashVal ^ (hashVal >>> 16)) & 0x7FFFFFFF;
+    }
+
+    private static final int MAX_LOAD = 2;
+    private static final int SEGMENT_SIZE = 1024;
+    private static final int MAX_SEGMENTS = 1024;
+    private static final int MAX_BUCKETS = SEGMENT_SIZE * MAX_SEGMENTS;
+
+    /**
+     * The current list, bucket directory and counters.
+     */
+    private volatile State<AnyType> state;
+
+    /**
+     * Everything makeEmpty has to replace at once. Bucket sentinels are
+     * kept in fixed-size directory segments allocated on first use, so the
+     * directory never has to be copied when the bucket count doubles.
+     */
+    private static final class State<AnyType> {
+        final AtomicReferenceArray<AtomicReferenceArray<Node<AnyType>>> segments =
+                new AtomicReferenceArray<>(MAX_SEGMENTS);
+        final AtomicInteger bucketSize = new AtomicInteger(2);
+        final AtomicInteger setSize = new AtomicInteger(0);
+
+        /**
+         * Construct an empty list holding only bucket 0's sentinel.
+         */
+        State() {
+            AtomicReferenceArray<Node<AnyType>> first = new AtomicReferenceArray<>(SEGMENT_SIZE);
+            first.set(0, new Node<>(sentinelKey(0), null));
+            segments.set(0, first);
+        }
+    }
+
+    /**
+     * Atomic access to Node.next. A class literal can not name a type
+     * argument, so Node.class is cast to the wildcard type once here.
+     */
+    @SuppressWarnings("unchecked")
+    private static final AtomicReferenceFieldUpdater<Node<?>, Node<?>> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater((Class<Node<?>>) (Class<?>) Node.class,
+                    (Class<Node<?>>) (Class<?>) Node.class, "next");
+
+    /**
+     * A list node. Sentinels have a null element. A node whose next link
+     * points at a marker node has been logically deleted; the marker's own
+     * next link holds the real successor. Keeping the mark in the chain
+     * avoids a separate mark/reference pair object on every link.
+     */
+    private static final class Node<AnyType> {
+        final int key;
+        final AnyType element;
+        final boolean marker;
+        volatile Node<AnyType> next;
+
+        /**
+         * Construct an unlinked node.
+         *
+         * @param key     the split-order key.
+         * @param element the stored item, or null for a sentinel.
+         */
+        Node(int key, AnyType element) {
+            this.key = key;
+            this.element = element;
+            this.marker = false;
+        }
+
+        /**
+         * Construct a marker node.
+         *
+         * @param next the successor of the node being deleted.
+         */
+        Node(Node<AnyType> next) {
+            this.key = 0;
+            this.element = null;
+            this.marker = true;
+            this.next = next;
+        }
+
+        /**
+         * Check whether this is a marker node.
+         *
+         * @return true for a marker.
+         */
+        boolean isMarker() {
+            return marker;
+        }
+    }
+
+    /**
+     * The result of find: the nodes on either side of the search
+     * position, and whether curr holds the item.
+     */
+    private static final class Window<AnyType> {
+        final Node<AnyType> pred;
+        final Node<AnyType> curr;
+        final boolean found;
+
+        /**
+         * Construct a window.
+         *
+         * @param pred  the last node ordered before the item.
+         * @param curr  the node holding the item, or the next node.
+         * @param found true if curr holds the item.
+         */
+        Window(Node<AnyType> pred, Node<AnyType> curr, boolean found) {
+            this.pred = pred;
+            this.curr = curr;
+            this.found = found;
+        }
+    }
+}
@@ -0,0 +1,476 @@
+/**************************************************************************
+ * @file: OffHeapGdpTable.java
+ * @description: This program implements a country -> GDP hash table whose
+ *               keys and values live outside the Java heap, in direct
+ *               ByteBuffers. The GC never scans the records, so the table
+ *               can hold tens of millions of gdp2025 entries without long
+ *               pauses. The table owns its buffers and must be closed:
+ *               close() and every rehash free the buffers they drop
+ *               at once, instead of leaving them for the GC to find.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+// OffHeapGdpTable class
+//
+// CONSTRUCTION: an approximate number of records or default of 128
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )                  --> Insert or update gdp2025 record x
+// void put( country, gdp )          --> Insert or update a record
+// int getGdp( country, missing )    --> Return the GDP, or missing if absent
+// boolean contains( x )             --> Return true if x's country is present
+// void remove( x )                  --> Remove x's country
+// void makeEmpty( )                 --> Remove all records
+// int size( )                       --> Return the number of records
+// void close( )                     --> Release the off-heap memory
+//
+// ******************SLOT LAYOUT (16 bytes)****************
+// int hash       --> country.hashCode()
+// int keyOffset  --> start of the UTF-8 country name in the key arena
+// int keyLength  --> length of the name in bytes, plus one (0 = free slot)
+// int gdp        --> the GDP value
+
+public class OffHeapGdpTable implements AutoCloseable {
+    /**
+     * Construct the table.
+     */
+    public OffHeapGdpTable() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Construct the table.
+     *
+     * @param expectedRecords approximate number of records to hold.
+     */
+    public OffHeapGdpTable(int expectedRecords) {
+        allocateSlots(nextPowerOfTwo((int) Math.min(MAX_SLOTS, expectedRecords / MAX_LOAD + 1)));
+        keys = allocate(DEFAULT_ARENA_BYTES);
+    }
+
+    /**
+     * Insert a record, replacing the GDP if the country is already present.
+     *
+     * @param x the record to store.
+     */
+    public void insert(gdp2025 x) {
+        put(x.getCountry(), x.getGdp());
+    }
+
+    /**
+     * Insert a record, replacing the GDP if the country is already present.
+     *
+     * @param country the country name.
+     * @param gdp     the GDP value.
+     */
+    public void put(String country, int gdp) {
+        checkOpen();
+        byte[] name = country.getBytes(StandardCharsets.UTF_8);
+        int hashVal = country.hashCode();
+
+        int pos = homeSlot(hashVal);
+        while (keyLength(pos) != FREE) {
+            if (matches(pos, hashVal, name)) {
+                slots.putInt(pos * SLOT_BYTES + GDP, gdp);
+                return;
+            }
+            pos = (pos + 1) & mask;
+        }
+
+        // Before the arena grows, reclaim the names of removed records if
+        // they take up more room than the live ones
+        if (keyEnd + name.length > keys.capacity() && deadKeyBytes > keyEnd - deadKeyBytes) {
+            rehash(mask + 1);
+            pos = homeSlot(hashVal);
+            while (keyLength(pos) != FREE)
+                pos = (pos + 1) & mask;
+        }
+
+        writeSlot(pos, hashVal, appendKey(name), name.length, gdp);
+        currentSize++;
+
+        // Grow if the load factor exceeds the maximum
+        if (currentSize > maxLoadSize)
+            grow();
+    }
+
+    /**
+     * Look up a country's GDP.
+     *
+     * @param country      the country name.
+     * @param missingValue the value to return if the country is absent.
+     * @return the stored GDP, or missingValue.
+     */
+    public int getGdp(String country, int missingValue) {
+        int pos = findPos(country);
+        return pos < 0 ? missingValue : slots.getInt(pos * SLOT_BYTES + GDP);
+    }
+
+    /**
+     * Find a record's country in the table.
+     *
+     * @param x the record to search for.
+     * @return true if x's country is present, false otherwise.
+     */
+    public boolean contains(gdp2025 x) {
+        return findPos(x.getCountry()) >= 0;
+    }
+
+    /**
+     * Remove a record's country from the table. The name bytes stay in
+     * the key arena, counted as dead, until a rehash compacts it.
+     *
+     * @param x the record to remove.
+     */
+    public void remove(gdp2025 x) {
+        int pos = findPos(x.getCountry());
+        if (pos < 0)
+            return;
+        deadKeyBytes += keyLength(pos) - 1;
+
+        // Backward-shift later slots whose probe sequence passes through pos
+        int next = (pos + 1) & mask;
+        while (keyLength(next) != FREE) {
+            int home = homeSlot(slots.getInt(next * SLOT_BYTES + HASH));
+            if (((next - home) & mask) >= ((next - pos) & mask)) {
+                copySlot(next, pos);
+                pos = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        slots.putInt(pos * SLOT_BYTES + KEY_LENGTH, FREE);
+        currentSize--;
+    }
+
+    /**
+     * Make the table logically empty. The buffers are kept for reuse.
+     */
+    public void makeEmpty() {
+        checkOpen();
+        for (int pos = 0; pos <= mask; pos++)
+            slots.putInt(pos * SLOT_BYTES + KEY_LENGTH, FREE);
+        keyEnd = 0;
+        deadKeyBytes = 0;
+        currentSize = 0;
+    }
+
+    /**
+     * Return the number of records in the table.
+     *
+     * @return the number of records.
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Return the off-heap memory currently reserved by the table.
+     *
+     * @return the reserved bytes.
+     */
+    public long offHeapBytes() {
+        checkOpen();
+        return (long) slots.capacity() + keys.capacity();
+    }
+
+    /**
+     * Release the off-heap memory. The table can not be used afterwards,
+     * and any further operation other than size( ) or close( ) throws
+     * IllegalStateException.
+     */
+    public void close() {
+        if (slots == null)
+            return;
+
+        free(slots);
+        free(keys);
+        slots = null;
+        keys = null;
+        currentSize = 0;
+    }
+
+    /**
+     * Find the slot that holds a country.
+     *
+     * @param country the country name.
+     * @return the slot index, or -1 if the country is not present.
+     */
+    private int findPos(String country) {
+        checkOpen();
+        byte[] name = country.getBytes(StandardCharsets.UTF_8);
+        int hashVal = country.hashCode();
+
+        int pos = homeSlot(hashVal);
+        while (keyLength(pos) != FREE) {
+            if (matches(pos, hashVal, name))
+                return pos;
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Compare a slot's key against a country name, hash first.
+     *
+     * @param pos     an occupied slot index.
+     * @param hashVal the country's hash code.
+     * @param name    the country's UTF-8 bytes.
+     * @return true if the slot holds that country.
+     */
+    private boolean matches(int pos, int hashVal, byte[] name) {
+        int base = pos * SLOT_BYTES;
+        if (slots.getInt(base + HASH) != hashVal || keyLength(pos) != name.length + 1)
+            return false;
+
+        int offset = slots.getInt(base + KEY_OFFSET);
+        for (int i = 0; i < name.length; i++) {
+            if (keys.get(offset + i) != name[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Grow the table to twice as many slots.
+     */
+    private void grow() {
+        if (mask + 1 >= MAX_SLOTS)
+            throw new IllegalStateException("OffHeapGdpTable cannot grow beyond " + MAX_SLOTS + " slots");
+
+        rehash(2 * (mask + 1));
+    }
+
+    /**
+     * Rehash the table into the given number of slots, copying live names
+     * into a fresh key arena so that space left by removed records is
+     * reclaimed. The new arena has room for the live names twice over.
+     *
+     * @param newCapacity the number of slots (a power of two).
+     */
+    private void rehash(int newCapacity) {
+        // Save the old buffers
+        ByteBuffer oldSlots = slots;
+        ByteBuffer oldKeys = keys;
+        int oldCapacity = mask + 1;
+        long liveBytes = keyEnd - deadKeyBytes;
+
+        // Create new buffers
+        allocateSlots(newCapacity);
+        keys = allocate((int) Math.min(Integer.MAX_VALUE, Math.max(DEFAULT_ARENA_BYTES, 2 * liveBytes)));
+        keyEnd = 0;
+        deadKeyBytes = 0;
+
+        // Copy records from the old buffers; they are all distinct
+        for (int i = 0; i < oldCapacity; i++) {
+            int base = i * SLOT_BYTES;
+            int length = oldSlots.getInt(base + KEY_LENGTH) - 1;
+            if (length < 0)
+                continue;
+
+            int hashVal = oldSlots.getInt(base + HASH);
+            int offset = keyEnd;
+            keys.put(offset, oldKeys, oldSlots.getInt(base + KEY_OFFSET), length);
+            keyEnd += length;
+
+            int pos = homeSlot(hashVal);
+            while (keyLength(pos) != FREE)
+                pos = (pos + 1) & mask;
+            writeSlot(pos, hashVal, offset, length, oldSlots.getInt(base + GDP));
+        }
+
+        free(oldSlots);
+        free(oldKeys);
+    }
+
+    /**
+     * Append a name to the key arena, doubling the arena if it is full.
+     *
+     * @param name the UTF-8 bytes to append.
+     * @return the offset of the name in the arena.
+     */
+    private int appendKey(byte[] name) {
+        if (keyEnd + name.length > keys.capacity()) {
+            long needed = Math.max(2L * keys.capacity(), (long) keyEnd + name.length);
+            if (needed > Integer.MAX_VALUE)
+                throw new IllegalStateException("OffHeapGdpTable key arena is full");
+
+            ByteBuffer bigger = allocate((int) needed);
+            bigger.put(0, keys, 0, keyEnd);
+            free(keys);
+            keys = bigger;
+        }
+
+        int offset = keyEnd;
+        keys.put(offset, name);
+        keyEnd += name.length;
+        return offset;
+    }
+
+    /**
+     * Write all four fields of a slot.
+     *
+     * @param pos     the slot index.
+     * @param hashVal the country's hash code.
+     * @param offset  the name's offset in the key arena.
+     * @param length  the name's length in bytes.
+     * @param gdp     the GDP value.
+     */
+    private void writeSlot(int pos, int hashVal, int offset, int length, int gdp) {
+        int base = pos * SLOT_BYTES;
+        slots.putInt(base + HASH, hashVal);
+        slots.putInt(base + KEY_OFFSET, offset);
+        slots.putInt(base + KEY_LENGTH, length + 1);
+        slots.putInt(base + GDP, gdp);
+    }
+
+    /**
+     * Copy one slot over another.
+     *
+     * @param from the source slot index.
+     * @param to   the destination slot index.
+     */
+    private void copySlot(int from, int to) {
+        slots.put(to * SLOT_BYTES, slots, from * SLOT_BYTES, SLOT_BYTES);
+    }
+
+    /**
+     * Read a slot's stored key length field.
+     *
+     * @param pos the slot index.
+     * @return the name length plus one, or FREE.
+     */
+    private int keyLength(int pos) {
+        return slots.getInt(pos * SLOT_BYTES + KEY_LENGTH);
+    }
+
+    /**
+     * Allocate the slot buffer and derived fields for a given capacity.
+     *
+     * @param capacity the number of slots (a power of two).
+     */
+    private void allocateSlots(int capacity) {
+        slots = allocate(capacity * SLOT_BYTES);
+        mask = capacity - 1;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        maxLoadSize = (int) (capacity * MAX_LOAD);
+    }
+
+    /**
+     * Map a hash code to its home slot using Fibonacci hashing.
+     *
+     * @param hashVal the hash code.
+     * @return the home slot index.
+     */
+    private int homeSlot(int hashVal) {
+        return (hashVal * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Fail fast if the table has been closed.
+     */
+    private void checkOpen() {
+        if (slots == null)
+            throw new IllegalStateException("OffHeapGdpTable has been closed");
+    }
+
+    /**
+     * Allocate a zeroed, native-order direct buffer.
+     *
+     * @param bytes the buffer size.
+     * @return the buffer.
+     */
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Free a direct buffer's memory now, rather than when the GC finds it
+     * unreachable. Java 17 has no public call for this (the FFM Arena API
+     * is still incubating), so this uses the JDK's Unsafe.invokeCleaner
+     * when it is available and otherwise leaves the buffer to the GC. The
+     * buffer must never be touched again.
+     *
+     * @param buffer the direct buffer to free.
+     */
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null)
+            return;
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // Leave the buffer to the GC
+        }
+    }
+
+    /**
+     * sun.misc.Unsafe and its invokeCleaner method, or null if the
+     * runtime does not provide them.
+     */
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 128;
+    private static final int DEFAULT_ARENA_BYTES = 4096;
+    private static final int MAX_SLOTS = 1 << 26;
+    private static final double MAX_LOAD = 0.75;
+
+    private static final int SLOT_BYTES = 16;
+    private static final int HASH = 0;
+    private static final int KEY_OFFSET = 4;
+    private static final int KEY_LENGTH = 8;
+    private static final int GDP = 12;
+    private static final int FREE = 0;
+
+    /**
+     * The slot buffer and the arena holding UTF-8 country names; the
+     * names of removed records stay in the arena as dead bytes.
+     */
+    private ByteBuffer slots;
+    private ByteBuffer keys;
+    private int keyEnd;
+    private int deadKeyBytes;
+    private int currentSize;
+    private int maxLoadSize;
+    private int mask;
+    private int shift;
+
+    /**
+     * Internal method to find a power of two at least as large as n.
+     *
+     * @param n the starting number.
+     * @return a power of two larger than or equal to n (at least 2).
+     */
+    private static int nextPowerOfTwo(int n) {
+        if (n <= 2)
+            return 2;
+
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+
+}
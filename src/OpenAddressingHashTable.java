@@ -0,0 +1,259 @@
+/**************************************************************************
+ * @file: OpenAddressingHashTable.java
+ * @description: This program implements a hash table using open addressing
+ *               with linear probing. Collisions are balanced with Robin Hood
+ *               displacement and deletions use backward shifting, so the
+ *               table never needs tombstones and keeps every item in one
+ *               flat array instead of a linked list per bucket.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.Arrays;
+
+// OpenAddressing Hash table class
+//
+// CONSTRUCTION: an approximate initial size or default of 128
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// AnyType remove( x )    --> Remove x, return the removed item
+// boolean contains( x )  --> Return true if x is present
+// void makeEmpty( )      --> Remove all items
+
+public class OpenAddressingHashTable<AnyType> implements HashTable<AnyType> {
+    /**
+     * Construct the hash table.
+     */
+    public OpenAddressingHashTable() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param size approximate table size.
+     */
+    public OpenAddressingHashTable(int size) {
+        allocateArrays(nextPowerOfTwo(size));
+        currentSize = 0;
+    }
+
+    /**
+     * Insert into the hash table. If the item is
+     * already present, then do nothing. Grow the table
+     * if the insertion exceeds the maximum load factor.
+     *
+     * @param x the item to insert.
+     */
+    public void insert(AnyType x) {
+        int hashVal = x.hashCode();
+        int pos = homeSlot(hashVal);
+        int dist = 0;
+
+        // Walk the probe sequence until we find x or a "richer" slot
+        while (theItems[pos] != null) {
+            if (theHashes[pos] == hashVal && theItems[pos].equals(x))
+                return;
+
+            // Robin Hood invariant: x would have been placed before any
+            // item that sits closer to its home slot than x does here
+            if (probeDistance(pos) < dist)
+                break;
+
+            pos = (pos + 1) & mask;
+            dist++;
+        }
+
+        placeItem(x, hashVal, pos, dist);
+        currentSize++;
+
+        // Grow if the load factor exceeds the maximum
+        if (currentSize > maxLoadSize)
+            rehash();
+    }
+
+    /**
+     * Remove from the hash table.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public AnyType remove(AnyType x) {
+        int pos = findPos(x);
+        if (pos < 0)
+            return null;
+        AnyType removed = (AnyType) theItems[pos];
+
+        // Backward-shift every following item that is not in its home slot
+        int next = (pos + 1) & mask;
+        while (theItems[next] != null && probeDistance(next) > 0) {
+            theItems[pos] = theItems[next];
+            theHashes[pos] = theHashes[next];
+            pos = next;
+            next = (next + 1) & mask;
+        }
+
+        theItems[pos] = null;
+        theHashes[pos] = 0;
+        currentSize--;
+        return removed;
+    }
+
+    /**
+     * Find an item in the hash table.
+     *
+     * @param x the item to search for.
+     * @return true if x is found, false otherwise.
+     */
+    public boolean contains(AnyType x) {
+        return findPos(x) >= 0;
+    }
+
+    /**
+     * Make the hash table logically empty by clearing the slot array.
+     */
+    public void makeEmpty() {
+        Arrays.fill(theItems, null);
+        Arrays.fill(theHashes, 0);
+        currentSize = 0;
+    }
+
+    /**
+     * Find the slot that holds x.
+     *
+     * @param x the item to search for.
+     * @return the slot index, or -1 if x is not present.
+     */
+    private int findPos(AnyType x) {
+        int hashVal = x.hashCode();
+        int pos = homeSlot(hashVal);
+        int dist = 0;
+
+        // Stop at an empty slot or once we are further from home than the
+        // resident item, since x can never have been pushed past it
+        while (theItems[pos] != null && probeDistance(pos) >= dist) {
+            if (theHashes[pos] == hashVal && theItems[pos].equals(x))
+                return pos;
+
+            pos = (pos + 1) & mask;
+            dist++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Place an item starting at a given slot, displacing resident items
+     * that are closer to home than the item being carried.
+     *
+     * @param x       the item to place.
+     * @param hashVal the cached hash code of x.
+     * @param pos     the first slot to try.
+     * @param dist    the probe distance of x at pos.
+     */
+    private void placeItem(Object x, int hashVal, int pos, int dist) {
+        while (theItems[pos] != null) {
+            int residentDist = probeDistance(pos);
+
+            // Swap with the resident if it is "richer" than the carried item
+            if (residentDist < dist) {
+                Object tmpItem = theItems[pos];
+                int tmpHash = theHashes[pos];
+                theItems[pos] = x;
+                theHashes[pos] = hashVal;
+                x = tmpItem;
+                hashVal = tmpHash;
+                dist = residentDist;
+            }
+
+            pos = (pos + 1) & mask;
+            dist++;
+        }
+
+        theItems[pos] = x;
+        theHashes[pos] = hashVal;
+    }
+
+    /**
+     * Rehash the table by creating a new table twice the size
+     * and reinserting all elements from the old table.
+     */
+    private void rehash() {
+        // Save the old arrays
+        Object[] oldItems = theItems;
+        int[] oldHashes = theHashes;
+
+        // Create new, larger arrays
+        allocateArrays(2 * theItems.length);
+
+        // Copy elements from old table to new table; they are all distinct,
+        // so no equality checks are needed
+        for (int i = 0; i < oldItems.length; i++) {
+            if (oldItems[i] != null)
+                placeItem(oldItems[i], oldHashes[i], homeSlot(oldHashes[i]), 0);
+        }
+    }
+
+    /**
+     * Allocate the slot arrays and derived fields for a given capacity.
+     *
+     * @param capacity the number of slots (a power of two).
+     */
+    private void allocateArrays(int capacity) {
+        theItems = new Object[capacity];
+        theHashes = new int[capacity];
+        mask = capacity - 1;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        maxLoadSize = (int) (capacity * MAX_LOAD);
+    }
+
+    /**
+     * Map a hash code to its home slot using Fibonacci hashing, which
+     * spreads poor hash codes across the high bits before masking.
+     *
+     * @param hashVal the hash code.
+     * @return the home slot index.
+     */
+    private int homeSlot(int hashVal) {
+        return (hashVal * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Compute how far the item in a slot is from its home slot.
+     *
+     * @param pos an occupied slot index.
+     * @return the probe distance.
+     */
+    private int probeDistance(int pos) {
+        return (pos - homeSlot(theHashes[pos])) & mask;
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 128;
+    private static final double MAX_LOAD = 0.8;
+
+    /**
+     * The array of items and their cached hash codes.
+     */
+    private Object[] theItems;
+    private int[] theHashes;
+    private int currentSize;
+    private int maxLoadSize;
+    private int mask;
+    private int shift;
+
+    /**
+     * Internal method to find a power of two at least as large as n.
+     *
+     * @param n the starting number.
+     * @return a power of two larger than or equal to n (at least 2).
+     */
+    private static int nextPowerOfTwo(int n) {
+        if (n <= 2)
+            return 2;
+
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+
+}
@@ -12,10 +12,15 @@ import java.io.FileOutputStream;
 import java.io.PrintWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Scanner;
 import java.util.Collections;
 
 public class Proj4 {
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    private static final int LATENCY_INSERTS = 200000;
+    private static final int BULK_ROUNDS = 1000;
+
     public static void main(String[] args) throws IOException {
         // Use command line arguments to specify the input file
         if (args.length != 2) {
@@ -26,42 +31,9 @@ public class Proj4 {
         String inputFileName = args[0];
         int numLines = Integer.parseInt(args[1]);
 
-        // For file input
-        FileInputStream inputFileNameStream = null;
-        Scanner inputFileNameScanner = null;
-
-        // Open the input file
-        inputFileNameStream = new FileInputStream(inputFileName);
-        inputFileNameScanner = new Scanner(inputFileNameStream);
-
-        // ignore first line (header)
-        inputFileNameScanner.nextLine();
-
         // Read the dataset into an ArrayList
-        ArrayList<gdp2025> dataList = new ArrayList<>();
-        int linesRead = 0;
-
-        while (inputFileNameScanner.hasNextLine() && linesRead < numLines) {
-            String line = inputFileNameScanner.nextLine();
-            String[] parts = line.split(",");
-
-            if (parts.length == 2) {
-                String country = parts[0].trim();
-                String gdpStr = parts[1].trim();
-
-                // Skip entries with empty GDP values
-                if (!gdpStr.isEmpty()) {
-                    try {
-                        int gdp = Integer.parseInt(gdpStr);
-                        dataList.add(new gdp2025(country, gdp));
-                        linesRead++;
-                    } catch (NumberFormatException e) {
-                        // Skip invalid entries
-                    }
-                }
-            }
-        }
-        inputFileNameScanner.close();
+        ArrayList<gdp2025> dataList = readDataset(inputFileName, numLines);
+        int linesRead = dataList.size();
 
         // Print header
         System.out.println("\n========================================");
@@ -70,7 +42,8 @@ public class Proj4 {
         System.out.println("Number of entries: " + linesRead);
         System.out.println("========================================\n");
 
-        // Create one hash table to use for all tests
+        // Create one default-sized hash table to use for all tests, so the
+        // Sorted phase pays for growing, as in the earlier analysis.txt rows
         SeparateChainingHashTable<gdp2025> hashTable = new SeparateChainingHashTable<>();
 
         // Test 1: Already Sorted List
@@ -91,6 +64,52 @@ public class Proj4 {
 
         long[] reversedTimes = testHashTable(hashTable, reversedList, "Reversed");
 
+        // Per-insert latency on a fresh chaining table that grows many
+        // times; with incremental rehashing the worst single insert should
+        // stay close to the rest, while finishing each rehash at once stalls
+        ArrayList<gdp2025> latencyList = latencyRecords(shuffledList, LATENCY_INSERTS);
+        measureInsertLatency(latencyList, false);
+        measureInsertLatency(latencyList, true);
+        System.out.println("\nPer-insert latency (chaining table, " + latencyList.size()
+                + " inserts from the default size):");
+        printLatency("Incremental", measureInsertLatency(latencyList, false));
+        printLatency("Stop-world", measureInsertLatency(latencyList, true));
+
+        // Run the same three lists through the open-addressing table
+        System.out.println("\nOpen Addressing (Robin Hood) comparison:");
+        OpenAddressingHashTable<gdp2025> openTable = new OpenAddressingHashTable<>();
+        testHashTable(openTable, sortedList, "Sorted");
+        testHashTable(openTable, shuffledList, "Shuffled");
+        testHashTable(openTable, reversedList, "Reversed");
+
+        // And through the cuckoo table, whose searches check at most two buckets
+        System.out.println("\nCuckoo comparison:");
+        CuckooHashTable<gdp2025> cuckooTable = new CuckooHashTable<>();
+        testHashTable(cuckooTable, sortedList, "Sorted");
+        testHashTable(cuckooTable, shuffledList, "Shuffled");
+        testHashTable(cuckooTable, reversedList, "Reversed");
+
+        // And through the Swiss table, which filters slots by control byte
+        System.out.println("\nSwiss table comparison:");
+        SwissHashTable<gdp2025> swissTable = new SwissHashTable<>();
+        testHashTable(swissTable, sortedList, "Sorted");
+        testHashTable(swissTable, shuffledList, "Shuffled");
+        testHashTable(swissTable, reversedList, "Reversed");
+
+        // Compare one-at-a-time inserts into an unsized table with presizing
+        System.out.println("\nBulk load (chaining table):");
+        testBulkInsert(shuffledList);
+
+        // Search for absent countries with and without the Bloom filter
+        System.out.println("\nMiss-heavy search (chaining table):");
+        testMissLookups(dataList);
+
+        // Look up each country's GDP by name through the key-value map
+        testMapLookup(dataList);
+
+        // And through the table that keeps its records off the Java heap
+        testOffHeapLookup(dataList);
+
         // Append results to analysis.txt in CSV format
         FileOutputStream outputStream = new FileOutputStream("analysis.txt", true);
         PrintWriter outputWriter = new PrintWriter(outputStream);
@@ -108,18 +127,69 @@ public class Proj4 {
         System.out.println("========================================\n");
     }
 
+    /**
+     * Reads up to numLines valid records from a country,GDP csv file. The
+     * header row and rows with empty or invalid GDP values are skipped.
+     *
+     * @param inputFileName the csv file to read
+     * @param numLines the maximum number of records to read
+     * @return the records in file order
+     * @throws IOException if the file cannot be opened
+     */
+    static ArrayList<gdp2025> readDataset(String inputFileName, int numLines) throws IOException {
+        // Open the input file
+        FileInputStream inputFileNameStream = new FileInputStream(inputFileName);
+        Scanner inputFileNameScanner = new Scanner(inputFileNameStream);
+
+        // ignore first line (header)
+        inputFileNameScanner.nextLine();
+
+        ArrayList<gdp2025> dataList = new ArrayList<>();
+        int linesRead = 0;
+
+        while (inputFileNameScanner.hasNextLine() && linesRead < numLines) {
+            String line = inputFileNameScanner.nextLine();
+            String[] parts = line.split(",");
+
+            if (parts.length == 2) {
+                String country = parts[0].trim();
+                String gdpStr = parts[1].trim();
+
+                // Skip entries with empty GDP values
+                if (!gdpStr.isEmpty()) {
+                    try {
+                        int gdp = Integer.parseInt(gdpStr);
+                        dataList.add(new gdp2025(country, gdp));
+                        linesRead++;
+                    } catch (NumberFormatException e) {
+                        // Skip invalid entries
+                    }
+                }
+            }
+        }
+        inputFileNameScanner.close();
+
+        return dataList;
+    }
+
     /**
      * Tests hash table operations (insert, search, delete) on a given list.
+     * A chaining table also prints its statistics as of the end of the
+     * search, with its counters reset first so they cover this phase only.
      *
      * @param hashTable the hash table to test
      * @param list the list of data to test with
      * @param listType description of the list type (for output)
      * @return array of times [insertTime, searchTime, deleteTime] in nanoseconds
      */
-    private static long[] testHashTable(SeparateChainingHashTable<gdp2025> hashTable,
+    private static long[] testHashTable(HashTable<gdp2025> hashTable,
                                         ArrayList<gdp2025> list, String listType) {
         long[] times = new long[3];
 
+        // The same table is reused across phases, so start its counters over
+        if (hashTable instanceof SeparateChainingHashTable)
+            ((SeparateChainingHashTable<gdp2025>) hashTable).resetStats();
+
         // Time INSERT operation
         long startTime = System.nanoTime();
         for (gdp2025 item : list) {
@@ -136,6 +206,11 @@ public class Proj4 {
         endTime = System.nanoTime();
         times[1] = endTime - startTime;
 
+        // The chaining table can report its shape while it is still full
+        HashTableStats stats = null;
+        if (hashTable instanceof SeparateChainingHashTable)
+            stats = ((SeparateChainingHashTable<gdp2025>) hashTable).stats();
+
         // Time DELETE operation
         startTime = System.nanoTime();
         for (gdp2025 item : list) {
@@ -147,7 +222,225 @@ public class Proj4 {
         // Print results to screen
         System.out.printf("%-10s - Insert: %.6f s, Search: %.6f s, Delete: %.6f s%n",
                 listType, times[0] / 1e9, times[1] / 1e9, times[2] / 1e9);
+        if (stats != null)
+            System.out.println(stats);
 
         return times;
     }
-}
\ No newline at end of file
+
+    /**
+     * Times loading a list into fresh tables three ways: one insert at a
+     * time into a default-sized table, which rehashes as it fills; one
+     * insert at a time into a table built with the list's size; and
+     * insertAll into a default-sized table, which sizes it once up front.
+     * Each load is repeated BULK_ROUNDS times after as many warm-up rounds,
+     * since a single load of a small list is too short to time.
+     *
+     * @param list the list of data to insert
+     * @return array of average times [loopTime, presizedTime, insertAllTime] in nanoseconds
+     */
+    private static long[] testBulkInsert(ArrayList<gdp2025> list) {
+        long[] times = new long[3];
+        long[] rehashes = new long[3];
+
+        for (int round = -BULK_ROUNDS; round < BULK_ROUNDS; round++) {
+            for (int way = 0; way < 3; way++) {
+                SeparateChainingHashTable<gdp2025> table = way == 1
+                        ? new SeparateChainingHashTable<>(list.size())
+                        : new SeparateChainingHashTable<>();
+
+                long startTime = System.nanoTime();
+                if (way == 2) {
+                    table.insertAll(list);
+                } else {
+                    for (gdp2025 item : list) {
+                        table.insert(item);
+                    }
+                }
+                long endTime = System.nanoTime();
+
+                // Negative rounds are warm-up
+                if (round >= 0) {
+                    times[way] += endTime - startTime;
+                    rehashes[way] = table.stats().rehashCount();
+                }
+            }
+        }
+        for (int way = 0; way < 3; way++) {
+            times[way] /= BULK_ROUNDS;
+        }
+
+        System.out.printf("%-10s - Insert loop: %.6f s (%d rehashes), Presized loop: %.6f s (%d rehashes), "
+                        + "insertAll: %.6f s (%d rehashes)%n",
+                "Shuffled", times[0] / 1e9, rehashes[0], times[1] / 1e9, rehashes[1],
+                times[2] / 1e9, rehashes[2]);
+
+        return times;
+    }
+
+    /**
+     * Times searching a loaded table for records that are all absent,
+     * first walking the chains and then with a Bloom filter in front.
+     *
+     * @param list the records to load into the table
+     * @return array of times [plainTime, bloomTime] in nanoseconds
+     */
+    private static long[] testMissLookups(ArrayList<gdp2025> list) {
+        long[] times = new long[2];
+        SeparateChainingHashTable<gdp2025> table = new SeparateChainingHashTable<>(list.size());
+        table.insertAll(list);
+
+        // Build probes that are never in the table
+        ArrayList<gdp2025> misses = new ArrayList<>();
+        for (gdp2025 item : list) {
+            misses.add(new gdp2025(item.getCountry() + " (missing)", 0));
+        }
+
+        // Time SEARCH without the filter
+        long startTime = System.nanoTime();
+        for (gdp2025 item : misses) {
+            table.contains(item);
+        }
+        long endTime = System.nanoTime();
+        times[0] = endTime - startTime;
+
+        // Time SEARCH with the filter
+        table.enableBloomFilter(BLOOM_FALSE_POSITIVE_RATE);
+        startTime = System.nanoTime();
+        for (gdp2025 item : misses) {
+            table.contains(item);
+        }
+        endTime = System.nanoTime();
+        times[1] = endTime - startTime;
+
+        CountingBloomFilter filter = table.bloomFilter();
+        System.out.printf("%-10s - Plain: %.6f s, Bloom filter: %.6f s (est. FPP: %.4f, %d bytes)%n",
+                "Misses", times[0] / 1e9, times[1] / 1e9,
+                filter.falsePositiveRate(), filter.memoryBytes());
+
+        return times;
+    }
+
+    /**
+     * Builds a country -> GDP map and times looking up every country by
+     * its name, without building a gdp2025 probe object for each query.
+     *
+     * @param list the records to load into the map
+     * @return the lookup time in nanoseconds
+     */
+    private static long testMapLookup(ArrayList<gdp2025> list) {
+        SeparateChainingHashMap<String, Integer> gdpByCountry = new SeparateChainingHashMap<>(list.size());
+        for (gdp2025 item : list) {
+            gdpByCountry.put(item.getCountry(), item.getGdp());
+        }
+
+        // Time GET by country name
+        long total = 0;
+        long startTime = System.nanoTime();
+        for (gdp2025 item : list) {
+            total += gdpByCountry.getOrDefault(item.getCountry(), 0);
+        }
+        long endTime = System.nanoTime();
+
+        System.out.printf("%nMap lookup by country - Get: %.6f s (total GDP: %d)%n",
+                (endTime - startTime) / 1e9, total);
+
+        return endTime - startTime;
+    }
+
+    /**
+     * Builds a country -> GDP table in off-heap memory and times looking
+     * up every country by its name. The table is closed afterwards, which
+     * frees its memory at once.
+     *
+     * @param list the records to load into the table
+     * @return the lookup time in nanoseconds
+     */
+    private static long testOffHeapLookup(ArrayList<gdp2025> list) {
+        try (OffHeapGdpTable gdpByCountry = new OffHeapGdpTable(list.size())) {
+            for (gdp2025 item : list) {
+                gdpByCountry.insert(item);
+            }
+
+            // Time GET by country name
+            long total = 0;
+            long startTime = System.nanoTime();
+            for (gdp2025 item : list) {
+                total += gdpByCountry.getGdp(item.getCountry(), 0);
+            }
+            long endTime = System.nanoTime();
+
+            System.out.printf("Off-heap lookup by country - Get: %.6f s (total GDP: %d, %d bytes off-heap)%n",
+                    (endTime - startTime) / 1e9, total, gdpByCountry.offHeapBytes());
+
+            return endTime - startTime;
+        }
+    }
+
+    /**
+     * Builds enough distinct records for a latency run by repeating the
+     * dataset with numbered country names.
+     *
+     * @param list the records to repeat
+     * @param count the number of records wanted
+     * @return the records
+     */
+    private static ArrayList<gdp2025> latencyRecords(ArrayList<gdp2025> list, int count) {
+        ArrayList<gdp2025> records = new ArrayList<>();
+        for (int i = 0; i < count && !list.isEmpty(); i++) {
+            gdp2025 item = list.get(i % list.size());
+            records.add(new gdp2025(item.getCountry() + " #" + i / list.size(), item.getGdp()));
+        }
+        return records;
+    }
+
+    /**
+     * Times each insert into a fresh, default-sized table individually, so
+     * the table grows many times during the run. In stop-the-world mode
+     * every insert is followed by finishing any rehash it started, and the
+     * two are timed together.
+     *
+     * @param list the list of data to insert
+     * @param stopTheWorld whether to finish each rehash at once
+     * @return array of per-insert times in nanoseconds, in insertion order
+     */
+    private static long[] measureInsertLatency(ArrayList<gdp2025> list, boolean stopTheWorld) {
+        SeparateChainingHashTable<gdp2025> hashTable = new SeparateChainingHashTable<>();
+        long[] latencies = new long[list.size()];
+
+        // Time every INSERT on its own
+        for (int i = 0; i < list.size(); i++) {
+            gdp2025 item = list.get(i);
+            long startTime = System.nanoTime();
+            hashTable.insert(item);
+            if (stopTheWorld)
+                hashTable.finishRehash();
+            latencies[i] = System.nanoTime() - startTime;
+        }
+
+        return latencies;
+    }
+
+    /**
+     * Prints the mean, 99th percentile and worst-case latency of a run.
+     *
+     * @param label description of the run (for output)
+     * @param latencies the per-insert times in nanoseconds
+     */
+    private static void printLatency(String label, long[] latencies) {
+        // Summarize from a sorted copy
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long latency : sorted) {
+            total += latency;
+        }
+        int n = sorted.length;
+        long mean = n == 0 ? 0 : total / n;
+        long p99 = n == 0 ? 0 : sorted[Math.min(n - 1, (int) Math.ceil(n * 0.99) - 1)];
+        long max = n == 0 ? 0 : sorted[n - 1];
+
+        System.out.printf("%-11s - Mean: %d ns, p99: %d ns, Max: %d ns%n",
+                label, mean, p99, max);
+    }
+}
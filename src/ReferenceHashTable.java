@@ -0,0 +1,352 @@
+/**************************************************************************
+ * @file: ReferenceHashTable.java
+ * @description: This program implements a separate chaining hash table that
+ *               holds its items through weak or soft references, so the
+ *               garbage collector may reclaim them: a weakly held item goes
+ *               once nothing else refers to it, and a softly held item goes
+ *               when the heap runs short. Each chain node is itself the
+ *               reference; the collector queues cleared nodes on a
+ *               ReferenceQueue, which every operation drains to unlink them.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+// ReferenceHashTable class
+//
+// CONSTRUCTION: a Strength (WEAK or SOFT), and an approximate
+//               initial size or default of 101
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// AnyType remove( x )    --> Remove x, return the removed item
+// boolean contains( x )  --> Return true if x is present and not reclaimed
+// void makeEmpty( )      --> Remove all items
+// int size( )            --> Return the number of items not yet reclaimed
+// long reclaimedCount( ) --> Return how many items the collector has reclaimed
+
+public class ReferenceHashTable<AnyType> implements HashTable<AnyType> {
+    /**
+     * How strongly the table holds its items.
+     */
+    public enum Strength {
+        /**
+         * Reclaimed as soon as nothing else refers to the item.
+         */
+        WEAK,
+
+        /**
+         * Reclaimed only when the heap would otherwise run out.
+         */
+        SOFT
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param strength how strongly to hold the items.
+     */
+    public ReferenceHashTable(Strength strength) {
+        this(strength, DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param strength how strongly to hold the items.
+     * @param size     approximate table size.
+     * @throws IllegalArgumentException if size is not positive.
+     */
+    public ReferenceHashTable(Strength strength, int size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("size must be positive: " + size);
+
+        this.strength = strength;
+        theLists = new Node[SeparateChainingHashMap.primeAtLeast(size)];
+    }
+
+    /**
+     * Insert into the hash table. If the item is
+     * already present, then do nothing.
+     *
+     * @param x the item to insert.
+     */
+    public void insert(AnyType x) {
+        expungeStaleEntries();
+
+        int hashVal = x.hashCode();
+        int index = myhash(hashVal);
+        if (find(theLists[index], x, hashVal) != null)
+            return;
+
+        Node<AnyType> node = strength == Strength.WEAK
+                ? new WeakNode<>(x, hashVal, queue)
+                : new SoftNode<>(x, hashVal, queue);
+        node.setNext(theLists[index]);
+        theLists[index] = node;
+
+        // Rehash if load factor exceeds 1.0
+        if (++currentSize > theLists.length)
+            rehash();
+    }
+
+    /**
+     * Remove from the hash table.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    public AnyType remove(AnyType x) {
+        expungeStaleEntries();
+
+        int hashVal = x.hashCode();
+        int index = myhash(hashVal);
+        Node<AnyType> prev = null;
+        for (Node<AnyType> node = theLists[index]; node != null; node = node.next()) {
+            AnyType item = node.get();
+            if (node.hash() == hashVal && item != null && item.equals(x)) {
+                unlink(index, prev, node);
+                currentSize--;
+
+                // A cleared node is never queued, so it can not be reclaimed twice
+                node.clear();
+                return item;
+            }
+            prev = node;
+        }
+        return null;
+    }
+
+    /**
+     * Find an item in the hash table. An item the collector has cleared
+     * is not found, even before its node has been unlinked.
+     *
+     * @param x the item to search for.
+     * @return true if x is found, false otherwise.
+     */
+    public boolean contains(AnyType x) {
+        expungeStaleEntries();
+
+        int hashVal = x.hashCode();
+        return find(theLists[myhash(hashVal)], x, hashVal) != null;
+    }
+
+    /**
+     * Make the hash table logically empty. Nodes the collector clears
+     * later are queued on the old queue, which is dropped with them.
+     */
+    public void makeEmpty() {
+        for (int i = 0; i < theLists.length; i++) {
+            for (Node<AnyType> node = theLists[i]; node != null; node = node.next())
+                node.clear();
+            theLists[i] = null;
+        }
+        queue = new ReferenceQueue<>();
+        currentSize = 0;
+    }
+
+    /**
+     * Return the number of items not yet reclaimed.
+     *
+     * @return the number of items.
+     */
+    public int size() {
+        expungeStaleEntries();
+        return currentSize;
+    }
+
+    /**
+     * Return how many items the collector has reclaimed since the table
+     * was built. Items removed through remove( x ) or makeEmpty( ) are
+     * not counted.
+     *
+     * @return the number of reclaimed items.
+     */
+    public long reclaimedCount() {
+        expungeStaleEntries();
+        return reclaimedCount;
+    }
+
+    /**
+     * Unlink every node the collector has queued. The queue is empty
+     * in the common case, so this costs one poll.
+     */
+    private void expungeStaleEntries() {
+        for (Reference<? extends AnyType> ref; (ref = queue.poll()) != null; ) {
+            @SuppressWarnings("unchecked")
+            Node<AnyType> stale = (Node<AnyType>) ref;
+            int index = myhash(stale.hash());
+
+            // A rehash may already have dropped the node
+            Node<AnyType> prev = null;
+            for (Node<AnyType> node = theLists[index]; node != null; node = node.next()) {
+                if (node == stale) {
+                    unlink(index, prev, node);
+                    currentSize--;
+                    reclaimedCount++;
+                    break;
+                }
+                prev = node;
+            }
+        }
+    }
+
+    /**
+     * Search a chain for a live item equal to x.
+     *
+     * @param node    the first node of the chain.
+     * @param x       the item to search for.
+     * @param hashVal the hash code of x.
+     * @return the matching node, or null.
+     */
+    private static <AnyType> Node<AnyType> find(Node<AnyType> node, AnyType x, int hashVal) {
+        for (; node != null; node = node.next()) {
+            if (node.hash() == hashVal) {
+                AnyType item = node.get();
+                if (item != null && item.equals(x))
+                    return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Unlink a node from its chain.
+     *
+     * @param index the chain's bucket.
+     * @param prev  the node before it, or null if it is first.
+     * @param node  the node to unlink.
+     */
+    private void unlink(int index, Node<AnyType> prev, Node<AnyType> node) {
+        if (prev == null)
+            theLists[index] = node.next();
+        else
+            prev.setNext(node.next());
+    }
+
+    /**
+     * Rehash the table into the next size on SeparateChainingHashMap's
+     * prime ladder, about twice as large. Nodes are relinked rather than
+     * copied, and nodes already cleared are dropped.
+     */
+    private void rehash() {
+        int newSize = SeparateChainingHashMap.primeAtLeast(theLists.length + 1);
+        if (newSize == theLists.length)
+            return;
+
+        Node<AnyType>[] oldLists = theLists;
+        theLists = new Node[newSize];
+
+        for (Node<AnyType> node : oldLists) {
+            while (node != null) {
+                Node<AnyType> next = node.next();
+                if (node.get() == null) {
+                    currentSize--;
+                    reclaimedCount++;
+                } else {
+                    int index = myhash(node.hash());
+                    node.setNext(theLists[index]);
+                    theLists[index] = node;
+                }
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * Hash function for generic types using their hashCode method.
+     *
+     * @param hashVal the item's hash code.
+     * @return the hash index.
+     */
+    private int myhash(int hashVal) {
+        hashVal %= theLists.length;
+        if (hashVal < 0)
+            hashVal += theLists.length;
+
+        return hashVal;
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 101;
+
+    /**
+     * The chains of reference nodes, and the queue the collector puts
+     * cleared nodes on.
+     */
+    private Node<AnyType>[] theLists;
+    private ReferenceQueue<AnyType> queue = new ReferenceQueue<>();
+    private final Strength strength;
+
+    private int currentSize;
+    private long reclaimedCount;
+
+    /**
+     * A chain node. Weak and soft nodes must extend different Reference
+     * classes, so the links are reached through this interface.
+     */
+    private interface Node<AnyType> {
+        AnyType get();
+
+        void clear();
+
+        int hash();
+
+        Node<AnyType> next();
+
+        void setNext(Node<AnyType> next);
+    }
+
+    /**
+     * A chain node that holds its item weakly.
+     */
+    private static final class WeakNode<AnyType> extends WeakReference<AnyType> implements Node<AnyType> {
+        private final int hash;
+        private Node<AnyType> next;
+
+        WeakNode(AnyType item, int hash, ReferenceQueue<AnyType> queue) {
+            super(item, queue);
+            this.hash = hash;
+        }
+
+        public int hash() {
+            return hash;
+        }
+
+        public Node<AnyType> next() {
+            return next;
+        }
+
+        public void setNext(Node<AnyType> next) {
+            this.next = next;
+        }
+    }
+
+    /**
+     * A chain node that holds its item softly.
+     */
+    private static final class SoftNode<AnyType> extends SoftReference<AnyType> implements Node<AnyType> {
+        private final int hash;
+        private Node<AnyType> next;
+
+        SoftNode(AnyType item, int hash, ReferenceQueue<AnyType> queue) {
+            super(item, queue);
+            this.hash = hash;
+        }
+
+        public int hash() {
+            return hash;
+        }
+
+        public Node<AnyType> next() {
+            return next;
+        }
+
+        public void setNext(Node<AnyType> next) {
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,1653 @@
+/**************************************************************************
+ * @file: SeparateChainingHashMap.java
+ * @description: This program implements a key-value hash map using separate
+ *               chaining for collision resolution. It is the chaining engine
+ *               behind SeparateChainingHashTable: buckets hold singly-linked
+ *               nodes that cache each key's hash, and the table grows by
+ *               incremental rehashing. A chain that grows past eight nodes
+ *               of mutually Comparable keys is converted into a balanced
+ *               (AVL) tree, so even heavily colliding keys are found in
+ *               O(log n).
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+// SeparateChaining Hash map class
+//
+// CONSTRUCTION: an approximate initial size or default of 101,
+//               an IndexMode or default of FAST_MODULO, the
+//               max/min load factors or defaults of 1.0/0.25, and
+//               a Hasher or default of the keys' hashCode( )
+//
+// ******************PUBLIC OPERATIONS*********************
+// V put( k, v )                  --> Map k to v, return the old value
+// V get( k )                     --> Return k's value, or null
+// V getOrDefault( k, d )         --> Return k's value, or d
+// boolean containsKey( k )       --> Return true if k is present
+// V putIfAbsent( k, v )          --> Map k to v only if absent, return the existing value
+// V replace( k, v )              --> Map k to v only if present, return the old value
+// V computeIfAbsent( k, f )      --> Return k's value, storing f(k) if absent
+// int putAllAbsent( ks, f )      --> Store f(k) for each absent k, return how many were stored
+// void ensureCapacity( n )       --> Size the table to hold n keys without growing
+// void finishRehash( )           --> Move every bucket of a rehash in progress now
+// void enableBloomFilter( p )    --> Screen lookups with a counting Bloom filter
+// void disableBloomFilter( )     --> Drop the Bloom filter
+// CountingBloomFilter bloomFilter( ) --> Return the Bloom filter, or null
+// void enableFrontCache( n )     --> Remember the last n hits for repeat lookups
+// void disableFrontCache( )      --> Drop the front cache
+// void enableFloodProtection( f ) --> Switch to a keyed hash of f(k) if keys flood a bucket
+// int reseedCount( )             --> Return how many times flooding forced a new hash
+// HashTableStats stats( )        --> Return a snapshot of the table's shape and counters
+// void resetStats( )             --> Zero the search and rehash counters
+// V remove( k )                  --> Remove k, return its value
+// int size( )                    --> Return the number of keys
+// boolean isEmpty( )             --> Return true if there are no keys
+// void makeEmpty( )              --> Remove all keys
+
+public class SeparateChainingHashMap<K, V> {
+    /**
+     * Construct the hash map.
+     */
+    public SeparateChainingHashMap() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Construct the hash map. Buckets start out as null references
+     * and a chain node is only created when a key lands in it.
+     *
+     * @param size approximate table size.
+     */
+    public SeparateChainingHashMap(int size) {
+        this(size, IndexMode.FAST_MODULO);
+    }
+
+    /**
+     * Construct the hash map.
+     *
+     * @param size      approximate table size.
+     * @param indexMode how hash codes are reduced to bucket indexes.
+     */
+    public SeparateChainingHashMap(int size, IndexMode indexMode) {
+        this(size, indexMode, DEFAULT_MAX_LOAD, DEFAULT_MIN_LOAD);
+    }
+
+    /**
+     * Construct the hash map.
+     *
+     * @param size    approximate table size.
+     * @param maxLoad the load factor above which the table grows.
+     * @param minLoad the load factor below which the table shrinks (0 to never shrink).
+     */
+    public SeparateChainingHashMap(int size, float maxLoad, float minLoad) {
+        this(size, IndexMode.FAST_MODULO, maxLoad, minLoad);
+    }
+
+    /**
+     * Construct the hash map. The table never shrinks below its initial
+     * size, and minLoad may be at most a quarter of maxLoad so that a
+     * table that has just grown or shrunk is never close to resizing back.
+     *
+     * @param size      approximate table size.
+     * @param indexMode how hash codes are reduced to bucket indexes.
+     * @param maxLoad   the load factor above which the table grows.
+     * @param minLoad   the load factor below which the table shrinks (0 to never shrink).
+     * @throws IllegalArgumentException if the load factors are out of range.
+     */
+    public SeparateChainingHashMap(int size, IndexMode indexMode, float maxLoad, float minLoad) {
+        this(size, indexMode, maxLoad, minLoad, null);
+    }
+
+    /**
+     * Construct the hash map with its own hash function.
+     *
+     * @param size   approximate table size.
+     * @param hasher the hash function for keys, or null to use hashCode().
+     */
+    public SeparateChainingHashMap(int size, Hasher<? super K> hasher) {
+        this(size, IndexMode.FAST_MODULO, DEFAULT_MAX_LOAD, DEFAULT_MIN_LOAD, hasher);
+    }
+
+    /**
+     * Construct the hash map.
+     *
+     * @param size      approximate table size.
+     * @param indexMode how hash codes are reduced to bucket indexes.
+     * @param maxLoad   the load factor above which the table grows.
+     * @param minLoad   the load factor below which the table shrinks (0 to never shrink).
+     * @param hasher    the hash function for keys, or null to use hashCode().
+     * @throws IllegalArgumentException if the load factors are out of range.
+     */
+    public SeparateChainingHashMap(int size, IndexMode indexMode, float maxLoad, float minLoad,
+                                   Hasher<? super K> hasher) {
+        if (!(maxLoad > 0))
+            throw new IllegalArgumentException("maxLoad must be positive: " + maxLoad);
+        if (!(minLoad >= 0 && minLoad <= maxLoad / 4))
+            throw new IllegalArgumentException("minLoad must be between 0 and maxLoad / 4: " + minLoad);
+
+        this.indexMode = indexMode;
+        this.hasher = hasher;
+        this.maxLoad = maxLoad;
+        this.minLoad = minLoad;
+        minCapacity = capacityAtLeast(size);
+        allocateTable(minCapacity);
+        currentSize = 0;
+    }
+
+    /**
+     * How a hash code is reduced to a bucket index.
+     */
+    public enum IndexMode {
+        /**
+         * Prime table sizes, reduced with the % operator.
+         */
+        MODULO,
+        /**
+         * Prime table sizes, reduced with a multiply-high instead of a
+         * division (Lemire's fastmod). Gives the same spread as MODULO.
+         */
+        FAST_MODULO,
+        /**
+         * Power-of-two table sizes; the hash is bit-mixed and then masked.
+         */
+        POWER_OF_TWO
+    }
+
+    /**
+     * Map a key to a value, replacing any previous value.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the previous value, or null if the key was absent.
+     */
+    public V put(K key, V value) {
+        migrateBuckets();
+
+        int hashVal = hashOf(key);
+        HashNode<K, V> node = findNode(key, hashVal, false);
+        if (node != null) {
+            V oldValue = node.value;
+            node.value = value;
+            return oldValue;
+        }
+
+        addNode(key, value, hashVal);
+        return null;
+    }
+
+    /**
+     * Map a key to a value only if the key is absent. The chain is
+     * walked once whether or not the value is stored.
+     *
+     * @param key   the key.
+     * @param value the value.
+     * @return the existing value, or null if the value was stored.
+     */
+    public V putIfAbsent(K key, V value) {
+        migrateBuckets();
+
+        int hashVal = hashOf(key);
+        HashNode<K, V> node = findNode(key, hashVal, false);
+        if (node != null)
+            return node.value;
+
+        addNode(key, value, hashVal);
+        return null;
+    }
+
+    /**
+     * Replace the value for a key only if the key is present.
+     *
+     * @param key   the key.
+     * @param value the new value.
+     * @return the previous value, or null if the key was absent.
+     */
+    public V replace(K key, V value) {
+        migrateBuckets();
+
+        HashNode<K, V> node = findNode(key, hashOf(key), false);
+        if (node == null)
+            return null;
+
+        V oldValue = node.value;
+        node.value = value;
+        return oldValue;
+    }
+
+    /**
+     * Look up the value for a key.
+     *
+     * @param key the key to search for.
+     * @return the value, or null if the key is absent.
+     */
+    public V get(Object key) {
+        migrateBuckets();
+
+        HashNode<K, V> node = findNode(key, hashOf(key), true);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Look up the value for a key, with a fallback.
+     *
+     * @param key          the key to search for.
+     * @param defaultValue the value to return if the key is absent.
+     * @return the value, or defaultValue if the key is absent.
+     */
+    public V getOrDefault(Object key, V defaultValue) {
+        migrateBuckets();
+
+        HashNode<K, V> node = findNode(key, hashOf(key), true);
+        return node == null ? defaultValue : node.value;
+    }
+
+    /**
+     * Find a key in the hash map.
+     *
+     * @param key the key to search for.
+     * @return true if the key is found, false otherwise.
+     */
+    public boolean containsKey(Object key) {
+        migrateBuckets();
+
+        return findNode(key, hashOf(key), true) != null;
+    }
+
+    /**
+     * Return the value for a key, computing and storing it first if the
+     * key is absent. The chain is walked once either way. If the function
+     * returns null, nothing is stored.
+     *
+     * @param key             the key.
+     * @param mappingFunction computes a value for an absent key.
+     * @return the existing or computed value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        migrateBuckets();
+
+        int hashVal = hashOf(key);
+        HashNode<K, V> node = findNode(key, hashVal, false);
+        if (node != null)
+            return node.value;
+
+        V value = mappingFunction.apply(key);
+        if (value != null)
+            addNode(key, value, hashVal);
+        return value;
+    }
+
+    /**
+     * Map each absent key in a collection to a computed value. The table
+     * is sized for every key up front, so no rehash starts part way
+     * through, and the size is updated once at the end.
+     *
+     * @param keys            the keys to add.
+     * @param mappingFunction the function that computes each new value.
+     * @return the number of keys that were added.
+     */
+    public int putAllAbsent(Collection<? extends K> keys, Function<? super K, ? extends V> mappingFunction) {
+        ensureCapacity(currentSize + keys.size());
+        migrateBuckets();
+
+        int added = 0;
+        for (K key : keys) {
+            int hashVal = hashOf(key);
+            if (findNode(key, hashVal, false) != null)
+                continue;
+
+            V value = mappingFunction.apply(key);
+            if (value != null) {
+                linkNode(key, value, hashVal);
+                added++;
+            }
+        }
+        currentSize += added;
+
+        // Only reachable if the table is already at its largest size,
+        // where it takes a higher load instead of rehashing to the same size
+        if (currentSize > growThreshold && nextCapacity(theLists.length) != theLists.length)
+            rehash(nextCapacity(theLists.length));
+        else if (bloomFilter != null && oldLists == null && currentSize > bloomFilter.expectedInsertions())
+            rebuildBloomFilter();
+        return added;
+    }
+
+    /**
+     * Grow the table, if needed, so that it can hold a number of keys
+     * without exceeding the maximum load factor. The nodes are moved at
+     * once rather than incrementally, since a bulk load is expected next.
+     * An empty table has nothing to move, so it just gets a larger bucket
+     * array, which is not counted as a rehash.
+     *
+     * @param expectedSize the number of keys the table should hold.
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = capacityAtLeast((int) Math.min(Math.ceil(expectedSize / (double) maxLoad),
+                Integer.MAX_VALUE));
+        if (capacity <= theLists.length)
+            return;
+
+        if (currentSize == 0 && oldLists == null) {
+            allocateTable(capacity);
+            if (bloomFilter != null)
+                rebuildBloomFilter();
+            return;
+        }
+
+        rehash(capacity);
+        finishRehash();
+    }
+
+    /**
+     * Finish any incremental rehash in progress by moving all the
+     * remaining buckets at once, for example before a latency-sensitive
+     * phase. Calling this after every insert gives stop-the-world
+     * rehashing.
+     */
+    public void finishRehash() {
+        while (oldLists != null)
+            migrateBuckets();
+    }
+
+    /**
+     * Put a counting Bloom filter in front of the table, filled with the
+     * current keys' hash codes. Lookups and removes of a key whose hash
+     * code the filter has never seen return without touching the buckets.
+     * A filter sized for the new table is filled as each resize moves the
+     * keys, and replaces this one when the resize finishes.
+     *
+     * @param falsePositiveRate the target false-positive rate, between 0 and 1.
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0 and 1.
+     */
+    public void enableBloomFilter(double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+
+        bloomFalsePositiveRate = falsePositiveRate;
+        rebuildBloomFilter();
+    }
+
+    /**
+     * Drop the Bloom filter, so every lookup goes to the buckets again.
+     */
+    public void disableBloomFilter() {
+        bloomFilter = null;
+        nextBloomFilter = null;
+    }
+
+    /**
+     * Return the Bloom filter, for example to read its false-positive
+     * rate and memory use.
+     *
+     * @return the Bloom filter, or null if it is not enabled.
+     */
+    public CountingBloomFilter bloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Put a small direct-mapped cache of recently found nodes in front of
+     * the table. A lookup whose key is in its slot returns that node
+     * without indexing the bucket array or walking a chain, which pays
+     * off when a few hot keys get most of the lookups. Each successful
+     * bucket search takes over its key's slot.
+     *
+     * @param size the number of slots (rounded up to a power of two).
+     * @throws IllegalArgumentException if size is not positive or is too large.
+     */
+    public void enableFrontCache(int size) {
+        if (size <= 0 || size > MAX_POWER_OF_TWO)
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_POWER_OF_TWO + ": " + size);
+
+        frontCache = new HashNode[size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1];
+    }
+
+    /**
+     * Drop the front cache, so every lookup goes to the buckets again.
+     */
+    public void disableFrontCache() {
+        frontCache = null;
+    }
+
+    /**
+     * Watch for hash flooding: if one bucket collects far more keys than
+     * the load factor explains, the keys were probably chosen to share a
+     * hash code. The map then switches to a SipHasher with a random key
+     * applied to each key's text, and rehashes every key at the current
+     * size. A flood under the random key as well reseeds again, up to
+     * MAX_RESEEDS times in all.
+     *
+     * @param keyText the text that decides key equality, such as
+     *                gdp2025::getCountry, or null if the keys are
+     *                themselves CharSequences.
+     */
+    public void enableFloodProtection(Function<? super K, ? extends CharSequence> keyText) {
+        floodKeyText = keyText != null ? keyText : key -> (CharSequence) key;
+    }
+
+    /**
+     * Return how many times flooding has made the map switch to a new
+     * randomly keyed hash.
+     *
+     * @return the number of reseeds.
+     */
+    public int reseedCount() {
+        return reseedCount;
+    }
+
+    /**
+     * Take a snapshot of the table's shape and counters. The chain-length
+     * histogram scans every bucket, so this costs O(capacity); the
+     * counters themselves are plain fields bumped on every get,
+     * getOrDefault and containsKey (not on the lookups updates make).
+     *
+     * @return the statistics snapshot.
+     */
+    public HashTableStats stats() {
+        int[] lengths = new int[theLists.length];
+        for (int i = 0; i < theLists.length; i++)
+            lengths[i] = chainLength(theLists[i]);
+
+        // Buckets not yet migrated still hold keys; count each key in the
+        // bucket it will move to, so the histogram covers capacity buckets
+        if (oldLists != null) {
+            for (int i = migrateIndex; i < oldLists.length; i++)
+                addProjectedLengths(lengths, oldLists[i]);
+        }
+
+        long[] histogram = new long[1];
+        for (int length : lengths) {
+            if (length >= histogram.length)
+                histogram = Arrays.copyOf(histogram, length + 1);
+            histogram[length]++;
+        }
+
+        return new HashTableStats(currentSize, theLists.length, histogram,
+                hits, hitProbes, frontCacheHits, misses, missProbes, rehashCount, rehashNanos);
+    }
+
+    /**
+     * Zero the search and rehash counters, for example between benchmark phases.
+     */
+    public void resetStats() {
+        hits = 0;
+        hitProbes = 0;
+        frontCacheHits = 0;
+        misses = 0;
+        missProbes = 0;
+        rehashCount = 0;
+        rehashNanos = 0;
+    }
+
+    /**
+     * Remove a key from the hash map.
+     *
+     * @param key the key to remove.
+     * @return the removed value, or null if the key was absent.
+     */
+    public V remove(Object key) {
+        migrateBuckets();
+
+        HashNode<K, V> node = unlinkNode(key, hashOf(key));
+        if (node == null)
+            return null;
+        if (bloomFilter != null)
+            bloomFilter.remove(node.hash);
+        forgetFrontNode(node);
+
+        // Shrink if the load factor fell below the minimum; waiting for
+        // any rehash in progress to finish keeps removes incremental
+        if (currentSize < shrinkThreshold && oldLists == null && theLists.length > minCapacity)
+            rehash(previousCapacity(theLists.length));
+        return node.value;
+    }
+
+    /**
+     * Return the number of keys in the hash map.
+     *
+     * @return the number of keys.
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Check whether the hash map is empty.
+     *
+     * @return true if there are no keys.
+     */
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Make the hash map logically empty by clearing all chains. A table
+     * that has grown goes back to its initial size.
+     */
+    public void makeEmpty() {
+        // Drop every chain so each bucket is a null reference again,
+        // and abandon any rehash that was still in progress
+        if (theLists.length > minCapacity)
+            allocateTable(minCapacity);
+        else
+            Arrays.fill(theLists, null);
+        oldLists = null;
+        migrateIndex = 0;
+        currentSize = 0;
+        if (bloomFilter != null)
+            rebuildBloomFilter();
+        clearFrontCache();
+    }
+
+    /**
+     * Link a new node for an absent key into the current table, and
+     * start a rehash if the load factor exceeds the maximum.
+     *
+     * @param key     the key (known to be absent).
+     * @param value   the value.
+     * @param hashVal the key's hash code.
+     */
+    private void addNode(K key, V value, int hashVal) {
+        linkNode(key, value, hashVal);
+        currentSize++;
+
+        // Rehash if the load factor exceeds the maximum, unless the table
+        // is already at its largest size and can only take a higher load
+        if (currentSize > growThreshold && nextCapacity(theLists.length) != theLists.length)
+            rehash(nextCapacity(theLists.length));
+        else if (bloomFilter != null && oldLists == null && currentSize > bloomFilter.expectedInsertions())
+            rebuildBloomFilter();
+    }
+
+    /**
+     * Link a new node for an absent key into its bucket in the current
+     * table, without touching the size.
+     *
+     * @param key     the key (known to be absent).
+     * @param value   the value.
+     * @param hashVal the key's hash code.
+     */
+    private void linkNode(K key, V value, int hashVal) {
+        int index = myhash(hashVal);
+        HashNode<K, V> head = theLists[index];
+
+        if (head instanceof TreeBin) {
+            // Keys the tree can not order send the bucket back to a chain
+            TreeBin<K, V> bin = (TreeBin<K, V>) head;
+            if (!bin.add(key, value, hashVal))
+                theLists[index] = new HashNode<>(key, value, hashVal, bin.untreeify());
+        } else {
+            // Link the new node in at the head of its chain in the current table
+            theLists[index] = new HashNode<>(key, value, hashVal, head);
+            if (chainLengthAtLeast(theLists[index], TREEIFY_THRESHOLD)) {
+                // The tree copies the chain's nodes
+                treeify(theLists, index);
+                clearFrontCache();
+            }
+        }
+        if (bloomFilter != null) {
+            bloomFilter.add(hashVal);
+            if (nextBloomFilter != null)
+                nextBloomFilter.add(hashVal);
+        }
+
+        // A bucket far longer than the load factor explains means the keys
+        // were chosen to collide
+        if (floodKeyText != null && reseedCount < MAX_RESEEDS) {
+            int limit = FLOOD_THRESHOLD * (1 + currentSize / theLists.length);
+            HashNode<K, V> bucket = theLists[index];
+            if (bucket instanceof TreeBin ? ((TreeBin<K, V>) bucket).size >= limit
+                    : chainLengthAtLeast(bucket, limit))
+                reseed();
+        }
+    }
+
+    /**
+     * Switch to a SipHasher with a fresh random key and rebuild the table
+     * at the same size, recomputing every key's hash. This is done all at
+     * once, since the old hashes are what made the chains long.
+     */
+    private void reseed() {
+        finishRehash();
+
+        long startTime = System.nanoTime();
+        hasher = new SipHasher().on(floodKeyText);
+        HashNode<K, V>[] old = theLists;
+        theLists = new HashNode[old.length];
+
+        for (HashNode<K, V> node : old) {
+            if (node instanceof TreeBin)
+                node = ((TreeBin<K, V>) node).untreeify();
+            for (; node != null; node = node.next)
+                relink(new HashNode<>(node.key, node.value, hashOf(node.key), null));
+        }
+
+        if (bloomFilter != null)
+            rebuildBloomFilter();
+        clearFrontCache();
+        reseedCount++;
+        rehashNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Compute a key's hash code with the map's hasher, or with hashCode()
+     * if it has none.
+     *
+     * @param key the key (of type K, or equal to no key in the map).
+     * @return the hash code.
+     */
+    @SuppressWarnings("unchecked")
+    private int hashOf(Object key) {
+        return hasher == null ? key.hashCode() : ((Hasher<Object>) hasher).hash(key);
+    }
+
+    /**
+     * Find the chain node holding a key, looking in the old table first
+     * while an incremental rehash is in progress. Only the public
+     * searches are counted; the lookup an update makes before changing
+     * the table is not.
+     *
+     * @param key     the key to search for.
+     * @param hashVal the key's hash code.
+     * @param counted whether to count the search in the stats.
+     * @return the node holding the key, or null if it is not present.
+     */
+    private HashNode<K, V> findNode(Object key, int hashVal, boolean counted) {
+        // A hot key may be in the front cache
+        if (frontCache != null) {
+            HashNode<K, V> node = frontCache[frontSlot(hashVal)];
+            if (node != null && node.hash == hashVal && node.key.equals(key)) {
+                if (counted) {
+                    hits++;
+                    frontCacheHits++;
+                }
+                return node;
+            }
+        }
+
+        // A definite miss in the filter skips both tables
+        if (bloomFilter != null && !bloomFilter.mightContain(hashVal)) {
+            if (counted)
+                misses++;
+            return null;
+        }
+
+        int probes = 0;
+        HashNode<K, V> node = null;
+        if (oldLists != null) {
+            int oldIndex = oldhash(hashVal);
+            if (oldIndex >= migrateIndex) {
+                node = findInBucket(oldLists[oldIndex], key, hashVal);
+                probes = bucketProbes;
+            }
+        }
+
+        if (node == null) {
+            node = findInBucket(theLists[myhash(hashVal)], key, hashVal);
+            probes += bucketProbes;
+        }
+
+        if (node != null && frontCache != null)
+            frontCache[frontSlot(hashVal)] = node;
+
+        if (counted) {
+            if (node != null) {
+                hits++;
+                hitProbes += probes;
+            } else {
+                misses++;
+                missProbes += probes;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Search one bucket, which is either a chain or a tree bin, for a key,
+     * leaving the number of nodes examined in bucketProbes. A tree bin
+     * search is counted as the tree's height, its longest possible path.
+     *
+     * @param node    the first node of the chain, or the tree bin.
+     * @param key     the key to search for.
+     * @param hashVal the key's hash code.
+     * @return the node holding the key, or null if it is not in the bucket.
+     */
+    private HashNode<K, V> findInBucket(HashNode<K, V> node, Object key, int hashVal) {
+        if (node instanceof TreeBin) {
+            TreeBin<K, V> bin = (TreeBin<K, V>) node;
+            bucketProbes = bin.root == null ? 0 : bin.root.height;
+            return bin.find(key, hashVal);
+        }
+
+        // Compare the cached hash first so mismatches skip equals()
+        int probes = 0;
+        for (; node != null; node = node.next) {
+            probes++;
+            if (node.hash == hashVal && node.key.equals(key)) {
+                bucketProbes = probes;
+                return node;
+            }
+        }
+        bucketProbes = probes;
+        return null;
+    }
+
+    /**
+     * Map a hash code to a front cache slot, mixing the high bits down
+     * so that the mask sees the whole hash code.
+     *
+     * @param hashVal the key's hash code.
+     * @return the slot index.
+     */
+    private int frontSlot(int hashVal) {
+        hashVal *= 0x9E3779B9;
+        return (hashVal ^ (hashVal >>> 16)) & (frontCache.length - 1);
+    }
+
+    /**
+     * Drop a node that is leaving the table from the front cache.
+     *
+     * @param node the removed or replaced node.
+     */
+    private void forgetFrontNode(HashNode<K, V> node) {
+        if (frontCache != null) {
+            int slot = frontSlot(node.hash);
+            if (frontCache[slot] == node)
+                frontCache[slot] = null;
+        }
+    }
+
+    /**
+     * Empty the front cache, after nodes were copied or rehashed in a
+     * way that may leave it pointing at dead nodes.
+     */
+    private void clearFrontCache() {
+        if (frontCache != null)
+            Arrays.fill(frontCache, null);
+    }
+
+    /**
+     * Unlink a key from whichever table currently holds it.
+     *
+     * @param key     the key to remove.
+     * @param hashVal the key's hash code.
+     * @return the unlinked node, or null if the key was not present.
+     */
+    private HashNode<K, V> unlinkNode(Object key, int hashVal) {
+        if (bloomFilter != null && !bloomFilter.mightContain(hashVal))
+            return null;
+
+        // The key lives in the old table only if its bucket has not moved yet
+        if (oldLists != null) {
+            int oldIndex = oldhash(hashVal);
+            if (oldIndex >= migrateIndex) {
+                HashNode<K, V> node = unlink(oldLists, oldIndex, key, hashVal);
+                if (node != null)
+                    return node;
+            }
+        }
+        HashNode<K, V> node = unlink(theLists, myhash(hashVal), key, hashVal);
+
+        // Only the current table's keys are in the filter being built for it
+        if (node != null && nextBloomFilter != null)
+            nextBloomFilter.remove(hashVal);
+        return node;
+    }
+
+    /**
+     * Unlink a key from one bucket of a table.
+     *
+     * @param lists   the table holding the bucket.
+     * @param index   the bucket index.
+     * @param key     the key to remove.
+     * @param hashVal the key's hash code.
+     * @return the unlinked node, or null if the key was not in the bucket.
+     */
+    private HashNode<K, V> unlink(HashNode<K, V>[] lists, int index, Object key, int hashVal) {
+        if (lists[index] instanceof TreeBin) {
+            TreeBin<K, V> bin = (TreeBin<K, V>) lists[index];
+            HashNode<K, V> removed = bin.remove(key, hashVal);
+            if (removed != null) {
+                currentSize--;
+
+                // Small trees go back to being chains
+                if (bin.size <= UNTREEIFY_THRESHOLD)
+                    lists[index] = bin.untreeify();
+            }
+            return removed;
+        }
+
+        // Walk the chain, remembering the previous node so we can unlink
+        HashNode<K, V> prev = null;
+        for (HashNode<K, V> node = lists[index]; node != null; node = node.next) {
+            if (node.hash == hashVal && node.key.equals(key)) {
+                if (prev == null)
+                    lists[index] = node.next;
+                else
+                    prev.next = node.next;
+                currentSize--;
+                return node;
+            }
+            prev = node;
+        }
+        return null;
+    }
+
+    /**
+     * Start rehashing into a new table, twice the size when growing or
+     * half the size when shrinking. Only the empty bucket array is
+     * allocated here; the nodes are moved a few buckets at a time by
+     * later operations.
+     *
+     * @param newCapacity the size of the new table.
+     */
+    private void rehash(int newCapacity) {
+        // A previous rehash must be finished before starting another
+        finishRehash();
+
+        // Keep the old table alongside the new one
+        long startTime = System.nanoTime();
+        oldLists = theLists;
+        oldMultiplier = theMultiplier;
+        allocateTable(newCapacity);
+        migrateIndex = 0;
+
+        // The filter still covers every key, since the hash codes do not
+        // change; a filter sized for the new table fills as keys move
+        if (bloomFilter != null)
+            nextBloomFilter = new CountingBloomFilter(bloomFilterSize(), bloomFalsePositiveRate);
+        rehashCount++;
+        rehashNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Count the keys in one bucket, which is either a chain or a tree bin.
+     *
+     * @param node the first node of the chain, or the tree bin.
+     * @return the number of keys in the bucket.
+     */
+    private static int chainLength(HashNode<?, ?> node) {
+        if (node instanceof TreeBin)
+            return ((TreeBin<?, ?>) node).size;
+
+        int length = 0;
+        for (; node != null; node = node.next)
+            length++;
+        return length;
+    }
+
+    /**
+     * Add each key of a bucket in the old table to the length of the
+     * bucket in the current table that it will migrate to.
+     *
+     * @param lengths the current table's chain lengths so far.
+     * @param node    the first node of the old chain, or the tree bin.
+     */
+    private void addProjectedLengths(int[] lengths, HashNode<K, V> node) {
+        if (node instanceof TreeBin) {
+            addProjectedTreeLengths(lengths, ((TreeBin<K, V>) node).root);
+            return;
+        }
+        for (; node != null; node = node.next)
+            lengths[myhash(node.hash)]++;
+    }
+
+    /**
+     * Add each key of a subtree in an old tree bin to the length of the
+     * bucket in the current table that it will migrate to.
+     *
+     * @param lengths the current table's chain lengths so far.
+     * @param node    the root of the subtree, or null.
+     */
+    private void addProjectedTreeLengths(int[] lengths, TreeNode<K, V> node) {
+        // Recurse left, loop right; the tree is balanced, so this is shallow
+        for (; node != null; node = node.right) {
+            lengths[myhash(node.hash)]++;
+            addProjectedTreeLengths(lengths, node.left);
+        }
+    }
+
+    /**
+     * Replace the Bloom filter with one sized for the current table and
+     * fill it from the cached hash codes of every node in both tables.
+     */
+    private void rebuildBloomFilter() {
+        bloomFilter = new CountingBloomFilter(bloomFilterSize(), bloomFalsePositiveRate);
+        nextBloomFilter = null;
+
+        addHashes(theLists);
+        if (oldLists != null)
+            addHashes(oldLists);
+    }
+
+    /**
+     * Return the number of keys to size a Bloom filter for the current
+     * table with: the keys the table can hold before it next grows, but
+     * not absurdly far beyond the current size when maxLoad is huge.
+     *
+     * @return the expected number of insertions.
+     */
+    private int bloomFilterSize() {
+        return (int) Math.min(growThreshold, 2L * Math.max(currentSize, theLists.length));
+    }
+
+    /**
+     * Add the hash code of every node in a table to the Bloom filter.
+     *
+     * @param lists the table to scan; migrated buckets are already null.
+     */
+    private void addHashes(HashNode<K, V>[] lists) {
+        for (HashNode<K, V> head : lists) {
+            if (head instanceof TreeBin)
+                addTreeHashes(((TreeBin<K, V>) head).root);
+            else {
+                for (HashNode<K, V> node = head; node != null; node = node.next)
+                    bloomFilter.add(node.hash);
+            }
+        }
+    }
+
+    /**
+     * Add the hash code of every node in a tree bin's subtree to the Bloom filter.
+     *
+     * @param node the subtree root.
+     */
+    private void addTreeHashes(TreeNode<K, V> node) {
+        for (; node != null; node = node.right) {
+            bloomFilter.add(node.hash);
+            addTreeHashes(node.left);
+        }
+    }
+
+    /**
+     * Allocate an empty current table and set its fastmod multiplier
+     * and resize thresholds.
+     *
+     * @param capacity the number of buckets.
+     */
+    private void allocateTable(int capacity) {
+        theLists = new HashNode[capacity];
+        theMultiplier = multiplierFor(capacity);
+        growThreshold = (int) Math.min((double) capacity * maxLoad, Integer.MAX_VALUE);
+        shrinkThreshold = (int) ((double) capacity * minLoad);
+    }
+
+    /**
+     * Move the next few buckets of an in-progress rehash into the
+     * current table. Called at the start of every public operation.
+     */
+    private void migrateBuckets() {
+        if (oldLists == null)
+            return;
+
+        long startTime = System.nanoTime();
+        int end = Math.min(migrateIndex + MIGRATE_BUCKETS, oldLists.length);
+        for (; migrateIndex < end; migrateIndex++) {
+            // Relink the nodes; the cached hash means no hashCode() calls.
+            // A tree bin is flattened first and re-treeified by relink
+            HashNode<K, V> node = oldLists[migrateIndex];
+            if (node instanceof TreeBin)
+                node = ((TreeBin<K, V>) node).untreeify();
+            oldLists[migrateIndex] = null;
+            while (node != null) {
+                HashNode<K, V> next = node.next;
+                relink(node);
+                if (nextBloomFilter != null)
+                    nextBloomFilter.add(node.hash);
+                node = next;
+            }
+        }
+
+        // Drop the old table once every bucket has been moved, and switch
+        // to the filter that now holds every key
+        if (migrateIndex == oldLists.length) {
+            oldLists = null;
+            if (nextBloomFilter != null) {
+                bloomFilter = nextBloomFilter;
+                nextBloomFilter = null;
+            }
+        }
+        rehashNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Move one node into its bucket in the current table. Inserts made
+     * during the rehash may already have turned that bucket into a tree,
+     * and a chain that reaches the threshold here is turned into one, so
+     * colliding keys stay O(log n) across every resize.
+     *
+     * @param node the node to move (its next link is overwritten).
+     */
+    private void relink(HashNode<K, V> node) {
+        int index = myhash(node.hash);
+        HashNode<K, V> head = theLists[index];
+
+        if (head instanceof TreeBin) {
+            TreeBin<K, V> bin = (TreeBin<K, V>) head;
+            if (bin.add(node.key, node.value, node.hash)) {
+                // The tree holds a copy, so the moved node is dead
+                forgetFrontNode(node);
+                return;
+            }
+            head = bin.untreeify();
+        }
+
+        node.next = head;
+        theLists[index] = node;
+        if (chainLengthAtLeast(node, TREEIFY_THRESHOLD)) {
+            // The tree copies the chain's nodes
+            treeify(theLists, index);
+            clearFrontCache();
+        }
+    }
+
+    /**
+     * Check whether a chain has at least a given number of nodes,
+     * walking no further than that.
+     *
+     * @param node  the first node of the chain.
+     * @param limit the length to test for.
+     * @return true if the chain has at least limit nodes.
+     */
+    private static boolean chainLengthAtLeast(HashNode<?, ?> node, int limit) {
+        for (int length = 0; node != null; node = node.next) {
+            if (++length >= limit)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Convert a long chain into a tree bin. The chain is left alone if its
+     * keys are not all of one class that is Comparable to itself, or if two
+     * unequal keys compare as equal.
+     *
+     * @param lists the table holding the bucket.
+     * @param index the bucket index.
+     */
+    private static <K, V> void treeify(HashNode<K, V>[] lists, int index) {
+        HashNode<K, V> head = lists[index];
+        Class<?> keyClass = comparableClassFor(head.key);
+        if (keyClass == null)
+            return;
+
+        TreeBin<K, V> bin = new TreeBin<>(keyClass);
+        for (HashNode<K, V> node = head; node != null; node = node.next) {
+            if (!bin.add(node.key, node.value, node.hash))
+                return;
+        }
+        lists[index] = bin;
+    }
+
+    /**
+     * Find the class of x if it is of the form "class C implements
+     * Comparable<C>", so that any two keys of that class can be compared.
+     *
+     * @param x the key.
+     * @return x's class, or null if x can not be used as a tree key.
+     */
+    private static Class<?> comparableClassFor(Object x) {
+        if (!(x instanceof Comparable))
+            return null;
+
+        Class<?> c = x.getClass();
+        if (c == String.class)
+            return c;
+
+        for (Type type : c.getGenericInterfaces()) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType p = (ParameterizedType) type;
+                Type[] args = p.getActualTypeArguments();
+                if (p.getRawType() == Comparable.class && args.length == 1 && args[0] == c)
+                    return c;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hash function that maps a cached hash code to a bucket index
+     * of the current table.
+     *
+     * @param hashVal the key's hash code.
+     * @return the hash index.
+     */
+    private int myhash(int hashVal) {
+        return reduce(hashVal, theLists.length, theMultiplier);
+    }
+
+    /**
+     * Hash function that maps a cached hash code to a bucket index
+     * of the table being drained by a rehash.
+     *
+     * @param hashVal the key's hash code.
+     * @return the hash index.
+     */
+    private int oldhash(int hashVal) {
+        return reduce(hashVal, oldLists.length, oldMultiplier);
+    }
+
+    /**
+     * Reduce a hash code to a bucket index according to the index mode.
+     *
+     * @param hashVal    the key's hash code.
+     * @param tableSize  the number of buckets.
+     * @param multiplier the fastmod multiplier for tableSize.
+     * @return the hash index.
+     */
+    private int reduce(int hashVal, int tableSize, long multiplier) {
+        switch (indexMode) {
+            case POWER_OF_TWO:
+                // Mix high bits down so the mask sees the whole hash code
+                hashVal *= 0x9E3779B9;
+                return (hashVal ^ (hashVal >>> 16)) & (tableSize - 1);
+
+            case FAST_MODULO:
+                // (hashVal mod tableSize) as an unsigned 32-bit value:
+                // the low 64 bits of M * hashVal hold the fraction, and
+                // the high 64 bits of fraction * tableSize are the result
+                long fraction = multiplier * (hashVal & 0xFFFFFFFFL);
+                return (int) (Math.multiplyHigh(fraction, tableSize) + ((fraction >> 63) & tableSize));
+
+            default:
+                hashVal %= tableSize;
+                if (hashVal < 0)
+                    hashVal += tableSize;
+
+                return hashVal;
+        }
+    }
+
+    /**
+     * Compute the fastmod multiplier, ceil(2^64 / tableSize), for a table.
+     *
+     * @param tableSize the number of buckets.
+     * @return the multiplier, or 0 if the index mode does not use one.
+     */
+    private long multiplierFor(int tableSize) {
+        return indexMode == IndexMode.FAST_MODULO ? Long.divideUnsigned(-1L, tableSize) + 1 : 0;
+    }
+
+    /**
+     * Pick the smallest allowed table size that is at least n.
+     *
+     * @param n the requested size.
+     * @return a power of two or a prime from the ladder.
+     */
+    private int capacityAtLeast(int n) {
+        if (indexMode == IndexMode.POWER_OF_TWO)
+            return n <= 2 ? 2 : Integer.highestOneBit(Math.min(n, MAX_POWER_OF_TWO) - 1) << 1;
+
+        return primeAtLeast(n);
+    }
+
+    /**
+     * Pick the smallest prime on the ladder that is at least n. Other
+     * prime-sized tables use this too, rather than searching by trial
+     * division.
+     *
+     * @param n the requested size.
+     * @return a prime from the ladder, or the largest one if n is bigger.
+     */
+    static int primeAtLeast(int n) {
+        int i = Arrays.binarySearch(PRIMES, n);
+        return PRIMES[Math.min(i >= 0 ? i : -i - 1, PRIMES.length - 1)];
+    }
+
+    /**
+     * Pick the table size that follows the current one when growing.
+     *
+     * @param tableSize the current table size.
+     * @return roughly twice tableSize, or tableSize itself if it is
+     *         already the largest size.
+     */
+    private int nextCapacity(int tableSize) {
+        if (indexMode == IndexMode.POWER_OF_TWO)
+            return Math.min(2 * tableSize, MAX_POWER_OF_TWO);
+
+        return capacityAtLeast(tableSize + 1);
+    }
+
+    /**
+     * Pick the table size that precedes the current one when shrinking.
+     *
+     * @param tableSize the current table size.
+     * @return roughly half tableSize, but no less than the initial size.
+     */
+    private int previousCapacity(int tableSize) {
+        if (indexMode == IndexMode.POWER_OF_TWO)
+            return Math.max(tableSize / 2, minCapacity);
+
+        int i = Arrays.binarySearch(PRIMES, tableSize);
+        return Math.max(i > 0 ? PRIMES[i - 1] : tableSize, minCapacity);
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 101;
+    private static final float DEFAULT_MAX_LOAD = 1.0f;
+    private static final float DEFAULT_MIN_LOAD = 0.25f;
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
+
+    /**
+     * The prime table sizes, each the first prime after twice the one
+     * before it (starting from 101, the default). Growing steps along this
+     * ladder, so no trial division ever runs.
+     */
+    private static final int[] PRIMES = {
+            2, 5, 11, 23, 47, 101, 211, 431, 863, 1733, 3467, 6947, 13901,
+            27803, 55609, 111227, 222461, 444929, 889871, 1779761, 3559537,
+            7119103, 14238221, 28476473, 56952947, 113905901, 227811809,
+            455623621, 911247257, 1822494581
+    };
+
+    /**
+     * How many old buckets each operation moves during a rehash. The new
+     * table is twice or half as large, so this normally finishes before
+     * the next rehash is due.
+     */
+    private static final int MIGRATE_BUCKETS = 4;
+
+    /**
+     * A chain this long becomes a tree bin; a tree bin this small (or
+     * smaller) goes back to a chain. The gap avoids flip-flopping.
+     */
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    /**
+     * With flood protection on, a bucket this long (times one more than
+     * the load factor) triggers a reseed, at most MAX_RESEEDS times.
+     */
+    private static final int FLOOD_THRESHOLD = 16;
+    private static final int MAX_RESEEDS = 4;
+
+    /**
+     * The array of chains; an empty bucket is a null reference and a
+     * long bucket may be a TreeBin.
+     */
+    private HashNode<K, V>[] theLists;
+    private int currentSize;
+
+    /**
+     * The load factors, the sizes at which the current table grows or
+     * shrinks, and the initial table size, which is never shrunk below.
+     */
+    private final float maxLoad;
+    private final float minLoad;
+    private int growThreshold;
+    private int shrinkThreshold;
+    private final int minCapacity;
+
+    /**
+     * The hash function for keys; null means each key's own hashCode().
+     * Flood protection replaces it with a keyed hash of floodKeyText.
+     */
+    private Hasher<? super K> hasher;
+    private Function<? super K, ? extends CharSequence> floodKeyText;
+    private int reseedCount;
+
+    /**
+     * The index mode and the fastmod multipliers of the current and old tables.
+     */
+    private final IndexMode indexMode;
+    private long theMultiplier;
+    private long oldMultiplier;
+
+    /**
+     * The table being drained by an incremental rehash (null when idle),
+     * and the index of its next bucket to move.
+     */
+    private HashNode<K, V>[] oldLists;
+    private int migrateIndex;
+
+    /**
+     * The optional counting Bloom filter over the keys' hash codes (null
+     * when disabled), the filter sized for the new table that is filled
+     * as an incremental rehash moves keys into it (null otherwise), and
+     * the false-positive rate both are built with.
+     */
+    private CountingBloomFilter bloomFilter;
+    private CountingBloomFilter nextBloomFilter;
+    private double bloomFalsePositiveRate;
+
+    /**
+     * The optional direct-mapped cache of recently found nodes (null when
+     * disabled). Every node in it is live in one of the tables.
+     */
+    private HashNode<K, V>[] frontCache;
+
+    /**
+     * Search and rehash counters for stats(). The map is single-threaded,
+     * so plain fields are the cheapest counters and are always on.
+     * bucketProbes passes the node count of the last bucket search back
+     * to findNode.
+     */
+    private long hits;
+    private long hitProbes;
+    private long frontCacheHits;
+    private long misses;
+    private long missProbes;
+    private long rehashCount;
+    private long rehashNanos;
+    private int bucketProbes;
+
+    /**
+     * A singly-linked chain node that caches its key's full hash code.
+     */
+    private static class HashNode<K, V> {
+        final K key;
+        V value;
+        final int hash;
+        HashNode<K, V> next;
+
+        /**
+         * Construct a chain node.
+         *
+         * @param key   the key.
+         * @param value the value.
+         * @param hash  the key's hash code.
+         * @param next  the following node in the chain, or null.
+         */
+        HashNode(K key, V value, int hash, HashNode<K, V> next) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+
+    /**
+     * A node of a tree bin. It is also a HashNode, so lookups can return
+     * it directly and untreeify() can reuse it as a chain node.
+     */
+    private static final class TreeNode<K, V> extends HashNode<K, V> {
+        TreeNode<K, V> left;
+        TreeNode<K, V> right;
+        int height;
+
+        /**
+         * Construct a leaf.
+         *
+         * @param key   the key.
+         * @param value the value.
+         * @param hash  the key's hash code.
+         */
+        TreeNode(K key, V value, int hash) {
+            super(key, value, hash, null);
+            height = 1;
+        }
+    }
+
+    /**
+     * A bucket stored as an AVL tree ordered by hash code, then by the
+     * keys' compareTo. All keys in one bin are of the same class, which
+     * is Comparable to itself. The bin sits in the bucket array in place
+     * of a chain head; its own key and value are unused.
+     */
+    private static final class TreeBin<K, V> extends HashNode<K, V> {
+        final Class<?> keyClass;
+        TreeNode<K, V> root;
+        int size;
+
+        /**
+         * Construct an empty bin.
+         *
+         * @param keyClass the class every key in the bin must have.
+         */
+        TreeBin(Class<?> keyClass) {
+            super(null, null, 0, null);
+            this.keyClass = keyClass;
+        }
+
+        /**
+         * Find a key in the bin.
+         *
+         * @param key     the key to search for.
+         * @param hashVal the key's hash code.
+         * @return the node holding the key, or null.
+         */
+        TreeNode<K, V> find(Object key, int hashVal) {
+            // A key of another class can only be found by a full scan
+            if (key.getClass() != keyClass)
+                return scan(root, key, hashVal);
+
+            TreeNode<K, V> node = root;
+            while (node != null) {
+                int c = compare(hashVal, key, node);
+                if (c == 0)
+                    return node.key.equals(key) ? node : null;
+                node = c < 0 ? node.left : node.right;
+            }
+            return null;
+        }
+
+        /**
+         * Add a key that is known to be absent.
+         *
+         * @param key     the key.
+         * @param value   the value.
+         * @param hashVal the key's hash code.
+         * @return false, leaving the bin unchanged, if the key has the wrong
+         *         class or compares equal to an unequal key.
+         */
+        boolean add(K key, V value, int hashVal) {
+            if (key.getClass() != keyClass)
+                return false;
+
+            // Reject ties before changing anything
+            for (TreeNode<K, V> node = root; node != null; ) {
+                int c = compare(hashVal, key, node);
+                if (c == 0)
+                    return false;
+                node = c < 0 ? node.left : node.right;
+            }
+
+            root = insert(root, new TreeNode<>(key, value, hashVal));
+            size++;
+            return true;
+        }
+
+        /**
+         * Remove a key from the bin.
+         *
+         * @param key     the key to remove.
+         * @param hashVal the key's hash code.
+         * @return the removed node, or null if the key was not present.
+         */
+        TreeNode<K, V> remove(Object key, int hashVal) {
+            TreeNode<K, V> target = find(key, hashVal);
+            if (target == null)
+                return null;
+
+            root = delete(root, target);
+            size--;
+            return target;
+        }
+
+        /**
+         * Flatten the bin into a chain that reuses the tree nodes.
+         *
+         * @return the first node of the chain, or null if the bin is empty.
+         */
+        HashNode<K, V> untreeify() {
+            HashNode<K, V> head = flatten(root, null);
+            root = null;
+            size = 0;
+            return head;
+        }
+
+        /**
+         * Order a key against a node: by hash code, then by compareTo.
+         *
+         * @param hashVal the key's hash code.
+         * @param key     the key (of the bin's key class).
+         * @param node    the node to compare against.
+         * @return negative, zero or positive.
+         */
+        @SuppressWarnings("unchecked")
+        private static int compare(int hashVal, Object key, TreeNode<?, ?> node) {
+            int c = Integer.compare(hashVal, node.hash);
+            return c != 0 ? c : ((Comparable<Object>) key).compareTo(node.key);
+        }
+
+        /**
+         * Search a subtree node by node, for keys of another class.
+         *
+         * @param node    the subtree root.
+         * @param key     the key to search for.
+         * @param hashVal the key's hash code.
+         * @return the node holding the key, or null.
+         */
+        private static <K, V> TreeNode<K, V> scan(TreeNode<K, V> node, Object key, int hashVal) {
+            if (node == null)
+                return null;
+            if (node.hash == hashVal && node.key.equals(key))
+                return node;
+
+            TreeNode<K, V> found = scan(node.left, key, hashVal);
+            return found != null ? found : scan(node.right, key, hashVal);
+        }
+
+        /**
+         * Insert a node into a subtree and rebalance on the way up.
+         *
+         * @param t    the subtree root.
+         * @param node the node to insert.
+         * @return the new subtree root.
+         */
+        private static <K, V> TreeNode<K, V> insert(TreeNode<K, V> t, TreeNode<K, V> node) {
+            if (t == null)
+                return node;
+
+            if (compare(node.hash, node.key, t) < 0)
+                t.left = insert(t.left, node);
+            else
+                t.right = insert(t.right, node);
+            return balance(t);
+        }
+
+        /**
+         * Delete a node from a subtree and rebalance on the way up.
+         *
+         * @param t      the subtree root.
+         * @param target the node to delete (present in the subtree).
+         * @return the new subtree root.
+         */
+        private static <K, V> TreeNode<K, V> delete(TreeNode<K, V> t, TreeNode<K, V> target) {
+            if (t != target) {
+                if (compare(target.hash, target.key, t) < 0)
+                    t.left = delete(t.left, target);
+                else
+                    t.right = delete(t.right, target);
+                return balance(t);
+            }
+
+            if (t.left == null)
+                return t.right;
+            if (t.right == null)
+                return t.left;
+
+            // Replace the target by its in-order successor node
+            TreeNode<K, V> successor = t.right;
+            while (successor.left != null)
+                successor = successor.left;
+            successor.right = delete(t.right, successor);
+            successor.left = t.left;
+            return balance(successor);
+        }
+
+        /**
+         * Restore the AVL height invariant at one node.
+         *
+         * @param t the node.
+         * @return the new subtree root.
+         */
+        private static <K, V> TreeNode<K, V> balance(TreeNode<K, V> t) {
+            if (height(t.left) - height(t.right) > 1) {
+                if (height(t.left.left) < height(t.left.right))
+                    t.left = rotateLeft(t.left);
+                t = rotateRight(t);
+            } else if (height(t.right) - height(t.left) > 1) {
+                if (height(t.right.right) < height(t.right.left))
+                    t.right = rotateRight(t.right);
+                t = rotateLeft(t);
+            } else {
+                updateHeight(t);
+            }
+            return t;
+        }
+
+        /**
+         * Rotate a subtree to the right.
+         *
+         * @param t the subtree root.
+         * @return the new subtree root.
+         */
+        private static <K, V> TreeNode<K, V> rotateRight(TreeNode<K, V> t) {
+            TreeNode<K, V> l = t.left;
+            t.left = l.right;
+            l.right = t;
+            updateHeight(t);
+            updateHeight(l);
+            return l;
+        }
+
+        /**
+         * Rotate a subtree to the left.
+         *
+         * @param t the subtree root.
+         * @return the new subtree root.
+         */
+        private static <K, V> TreeNode<K, V> rotateLeft(TreeNode<K, V> t) {
+            TreeNode<K, V> r = t.right;
+            t.right = r.left;
+            r.left = t;
+            updateHeight(t);
+            updateHeight(r);
+            return r;
+        }
+
+        /**
+         * Recompute a node's height from its children.
+         *
+         * @param t the node.
+         */
+        private static void updateHeight(TreeNode<?, ?> t) {
+            t.height = Math.max(height(t.left), height(t.right)) + 1;
+        }
+
+        /**
+         * Return a subtree's height.
+         *
+         * @param t the subtree root, or null.
+         * @return the height (0 for null).
+         */
+        private static int height(TreeNode<?, ?> t) {
+            return t == null ? 0 : t.height;
+        }
+
+        /**
+         * Link a subtree's nodes into a chain in front of a tail.
+         *
+         * @param t    the subtree root.
+         * @param tail the chain to append.
+         * @return the first node of the combined chain.
+         */
+        private static <K, V> HashNode<K, V> flatten(TreeNode<K, V> t, HashNode<K, V> tail) {
+            if (t == null)
+                return tail;
+
+            TreeNode<K, V> left = t.left;
+            t.next = flatten(t.right, tail);
+            t.left = null;
+            t.right = null;
+            return flatten(left, t);
+        }
+    }
+
+}
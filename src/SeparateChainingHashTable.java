@@ -3,24 +3,44 @@
  * @description: This program implements a hash table using separate chaining
  *               for collision resolution. It supports generic types and
  *               provides O(1) average case operations for insert, search, delete.
+ *               The chains are kept by a SeparateChainingHashMap that maps
+ *               each item to itself.
  * @author: Ravi Ingle
  * @date: December 4, 2025
  **************************************************************************/
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Collection;
+import java.util.function.Function;
 
 // SeparateChaining Hash table class
 //
-// CONSTRUCTION: an approximate initial size or default of 101
+// CONSTRUCTION: an approximate initial size or default of 101,
+//               an IndexMode or default of FAST_MODULO, and the
+//               max/min load factors or defaults of 1.0/0.25, and
+//               a Hasher or default of the items' hashCode( )
 //
 // ******************PUBLIC OPERATIONS*********************
 // void insert( x )       --> Insert x
-// void remove( x )       --> Remove x
+// int insertAll( c )     --> Insert every item of c, return how many were added
+// void ensureCapacity( n ) --> Size the table to hold n items without growing
+// void finishRehash( )   --> Move every bucket of a rehash in progress now
+// boolean add( x )       --> Insert x, return true if it was absent
+// AnyType putIfAbsent( x ) --> Insert x if absent, else return the stored item
+// AnyType replace( x )   --> Replace the stored item equal to x, return it
+// AnyType remove( x )    --> Remove x, return the removed item
 // boolean contains( x )  --> Return true if x is present
 // void makeEmpty( )      --> Remove all items
-
-public class SeparateChainingHashTable<AnyType> {
+// void enableBloomFilter( p ) --> Screen lookups with a counting Bloom filter
+// void disableBloomFilter( )  --> Drop the Bloom filter
+// CountingBloomFilter bloomFilter( ) --> Return the Bloom filter, or null
+// void enableFrontCache( n ) --> Remember the last n items found, for hot items
+// void disableFrontCache( )  --> Drop the front cache
+// void enableFloodProtection( f ) --> Switch to a keyed hash of f(x) if items flood a bucket
+// int reseedCount( )      --> Return how many times flooding forced a new hash
+// HashTableStats stats( ) --> Return a snapshot of the table's shape and counters
+// void resetStats( )      --> Zero the search and rehash counters
+
+public class SeparateChainingHashTable<AnyType> implements HashTable<AnyType> {
     /**
      * Construct the hash table.
      */
@@ -34,48 +54,154 @@ public class SeparateChainingHashTable<AnyType> {
      * @param size approximate table size.
      */
     public SeparateChainingHashTable(int size) {
-        theLists = new LinkedList[nextPrime(size)];
-        for (int i = 0; i < theLists.length; i++)
-            theLists[i] = new LinkedList<>();
-        currentSize = 0;
+        theMap = new SeparateChainingHashMap<>(size);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param size      approximate table size.
+     * @param indexMode how hash codes are reduced to bucket indexes.
+     */
+    public SeparateChainingHashTable(int size, SeparateChainingHashMap.IndexMode indexMode) {
+        theMap = new SeparateChainingHashMap<>(size, indexMode);
+    }
+
+    /**
+     * Construct the hash table. The table grows when the load factor
+     * exceeds maxLoad and shrinks back towards its initial size when
+     * removals push it below minLoad.
+     *
+     * @param size    approximate table size.
+     * @param maxLoad the load factor above which the table grows.
+     * @param minLoad the load factor below which the table shrinks (0 to never shrink).
+     * @throws IllegalArgumentException if the load factors are out of range.
+     */
+    public SeparateChainingHashTable(int size, float maxLoad, float minLoad) {
+        theMap = new SeparateChainingHashMap<>(size, maxLoad, minLoad);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param size      approximate table size.
+     * @param indexMode how hash codes are reduced to bucket indexes.
+     * @param maxLoad   the load factor above which the table grows.
+     * @param minLoad   the load factor below which the table shrinks (0 to never shrink).
+     * @throws IllegalArgumentException if the load factors are out of range.
+     */
+    public SeparateChainingHashTable(int size, SeparateChainingHashMap.IndexMode indexMode,
+                                     float maxLoad, float minLoad) {
+        theMap = new SeparateChainingHashMap<>(size, indexMode, maxLoad, minLoad);
+    }
+
+    /**
+     * Construct the hash table with its own hash function, for example
+     * Hashers.WYHASH.on(gdp2025::getCountry).
+     *
+     * @param size   approximate table size.
+     * @param hasher the hash function for items, or null to use hashCode().
+     */
+    public SeparateChainingHashTable(int size, Hasher<? super AnyType> hasher) {
+        theMap = new SeparateChainingHashMap<>(size, hasher);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param size      approximate table size.
+     * @param indexMode how hash codes are reduced to bucket indexes.
+     * @param maxLoad   the load factor above which the table grows.
+     * @param minLoad   the load factor below which the table shrinks (0 to never shrink).
+     * @param hasher    the hash function for items, or null to use hashCode().
+     * @throws IllegalArgumentException if the load factors are out of range.
+     */
+    public SeparateChainingHashTable(int size, SeparateChainingHashMap.IndexMode indexMode,
+                                     float maxLoad, float minLoad, Hasher<? super AnyType> hasher) {
+        theMap = new SeparateChainingHashMap<>(size, indexMode, maxLoad, minLoad, hasher);
     }
 
     /**
      * Insert into the hash table. If the item is
      * already present, then do nothing. Rehash if
-     * the insertion exceeds the table size.
+     * the insertion exceeds the maximum load factor.
      *
      * @param x the item to insert.
      */
     public void insert(AnyType x) {
-        // Get the list at the hashed index
-        List<AnyType> whichList = theLists[myhash(x)];
+        add(x);
+    }
+
+    /**
+     * Insert every item of a collection. The table is sized once for
+     * all of them instead of rehashing repeatedly as it fills.
+     *
+     * @param items the items to insert.
+     * @return the number of items that were not already present.
+     */
+    public int insertAll(Collection<? extends AnyType> items) {
+        return theMap.putAllAbsent(items, Function.identity());
+    }
 
-        // Only insert if the item is not already present
-        if (!whichList.contains(x)) {
-            whichList.add(x);
-            currentSize++;
+    /**
+     * Grow the table, if needed, so that it can hold a number of
+     * items without rehashing.
+     *
+     * @param expectedSize the number of items the table should hold.
+     */
+    public void ensureCapacity(int expectedSize) {
+        theMap.ensureCapacity(expectedSize);
+    }
 
-            // Rehash if load factor exceeds 1.0
-            if (currentSize > theLists.length)
-                rehash();
-        }
+    /**
+     * Finish any incremental rehash in progress at once. Calling this
+     * after every insert gives stop-the-world rehashing.
+     */
+    public void finishRehash() {
+        theMap.finishRehash();
     }
 
     /**
-     * Remove from the hash table.
+     * Insert into the hash table if the item is absent,
+     * walking the chain only once.
      *
-     * @param x the item to remove.
+     * @param x the item to insert.
+     * @return true if x was inserted, false if it was already present.
+     */
+    public boolean add(AnyType x) {
+        return theMap.putIfAbsent(x, x) == null;
+    }
+
+    /**
+     * Insert into the hash table if the item is absent.
+     *
+     * @param x the item to insert.
+     * @return the stored item equal to x, or null if x was inserted.
      */
-    public void remove(AnyType x) {
-        // Get the list at the hashed index
-        List<AnyType> whichList = theLists[myhash(x)];
+    public AnyType putIfAbsent(AnyType x) {
+        return theMap.putIfAbsent(x, x);
+    }
+
+    /**
+     * Replace the stored item equal to x with x itself, for example to
+     * swap in a gdp2025 record with a newer GDP. Nothing is inserted if no
+     * equal item is present.
+     *
+     * @param x the replacement item.
+     * @return the item that was replaced, or null if none was present.
+     */
+    public AnyType replace(AnyType x) {
+        return theMap.replace(x, x);
+    }
 
-        // Remove the item if it exists
-        if (whichList.contains(x)) {
-            whichList.remove(x);
-            currentSize--;
-        }
+    /**
+     * Remove from the hash table, walking the chain only once.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    public AnyType remove(AnyType x) {
+        return theMap.remove(x);
     }
 
     /**
@@ -85,127 +211,129 @@ public class SeparateChainingHashTable<AnyType> {
      * @return true if x is found, false otherwise.
      */
     public boolean contains(AnyType x) {
-        // Get the list at the hashed index
-        List<AnyType> whichList = theLists[myhash(x)];
-
-        // Check if the item exists in the list
-        return whichList.contains(x);
+        return theMap.containsKey(x);
     }
 
     /**
-     * Make the hash table logically empty by clearing all lists.
+     * Make the hash table logically empty by clearing all chains.
      */
     public void makeEmpty() {
-        // Clear each linked list in the array
-        for (int i = 0; i < theLists.length; i++) {
-            theLists[i].clear();
-        }
-        currentSize = 0;
+        theMap.makeEmpty();
     }
 
     /**
-     * A hash routine for String objects.
+     * Put a counting Bloom filter in front of the table, so that most
+     * searches for absent items return without touching a bucket. The
+     * filter counts, so removes keep it exact, and it is rebuilt
+     * whenever the table resizes.
      *
-     * @param key       the String to hash.
-     * @param tableSize the size of the hash table.
-     * @return the hash value.
+     * @param falsePositiveRate the target false-positive rate, between 0 and 1.
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0 and 1.
      */
-    public static int hash(String key, int tableSize) {
-        int hashVal = 0;
-
-        for (int i = 0; i < key.length(); i++)
-            hashVal = 37 * hashVal + key.charAt(i);
-
-        hashVal %= tableSize;
-        if (hashVal < 0)
-            hashVal += tableSize;
-
-        return hashVal;
+    public void enableBloomFilter(double falsePositiveRate) {
+        theMap.enableBloomFilter(falsePositiveRate);
     }
 
     /**
-     * Rehash the table by creating a new table twice the size
-     * and reinserting all elements from the old table.
+     * Drop the Bloom filter, so every search walks its chain again.
      */
-    private void rehash() {
-        // Save the old table
-        List<AnyType>[] oldLists = theLists;
-
-        // Create a new, larger table
-        theLists = new LinkedList[nextPrime(2 * theLists.length)];
-        for (int i = 0; i < theLists.length; i++)
-            theLists[i] = new LinkedList<>();
-
-        // Reset current size
-        currentSize = 0;
-
-        // Copy elements from old table to new table
-        for (int i = 0; i < oldLists.length; i++) {
-            for (AnyType item : oldLists[i]) {
-                insert(item);
-            }
-        }
+    public void disableBloomFilter() {
+        theMap.disableBloomFilter();
     }
 
     /**
-     * Hash function for generic types using their hashCode method.
+     * Return the Bloom filter, for example to read its false-positive
+     * rate and memory use.
      *
-     * @param x the item to hash.
-     * @return the hash index.
+     * @return the Bloom filter, or null if it is not enabled.
      */
-    private int myhash(AnyType x) {
-        int hashVal = x.hashCode();
-
-        hashVal %= theLists.length;
-        if (hashVal < 0)
-            hashVal += theLists.length;
+    public CountingBloomFilter bloomFilter() {
+        return theMap.bloomFilter();
+    }
 
-        return hashVal;
+    /**
+     * Put a small direct-mapped cache of recently found items in front of
+     * the table, so that searches for a few hot items skip the bucket
+     * array and the chain walk. Removing an item or emptying the table
+     * drops it from the cache.
+     *
+     * @param size the number of slots (rounded up to a power of two).
+     * @throws IllegalArgumentException if size is not positive or is too large.
+     */
+    public void enableFrontCache(int size) {
+        theMap.enableFrontCache(size);
     }
 
-    private static final int DEFAULT_TABLE_SIZE = 101;
+    /**
+     * Drop the front cache, so every search walks its chain again.
+     */
+    public void disableFrontCache() {
+        theMap.disableFrontCache();
+    }
 
     /**
-     * The array of Lists.
+     * Watch for hash flooding, and if one chain grows far beyond what the
+     * load factor explains, rehash every item with a randomly keyed
+     * SipHash of its text.
+     *
+     * @param keyText the text that decides item equality, such as
+     *                gdp2025::getCountry, or null if the items are
+     *                themselves CharSequences.
      */
-    private List<AnyType>[] theLists;
-    private int currentSize;
+    public void enableFloodProtection(Function<? super AnyType, ? extends CharSequence> keyText) {
+        theMap.enableFloodProtection(keyText);
+    }
 
     /**
-     * Internal method to find a prime number at least as large as n.
+     * Return how many times flooding has forced a new random hash key.
      *
-     * @param n the starting number (must be positive).
-     * @return a prime number larger than or equal to n.
+     * @return the number of reseeds.
      */
-    private static int nextPrime(int n) {
-        if (n % 2 == 0)
-            n++;
+    public int reseedCount() {
+        return theMap.reseedCount();
+    }
 
-        for (; !isPrime(n); n += 2)
-            ;
+    /**
+     * Take a snapshot of the table's size, capacity, load factor, chain
+     * lengths, probes per search and rehash work. The counters are cheap
+     * enough to stay on; the snapshot itself scans every bucket.
+     *
+     * @return the statistics snapshot.
+     */
+    public HashTableStats stats() {
+        return theMap.stats();
+    }
 
-        return n;
+    /**
+     * Zero the search and rehash counters.
+     */
+    public void resetStats() {
+        theMap.resetStats();
     }
 
     /**
-     * Internal method to test if a number is prime.
-     * Not an efficient algorithm.
+     * A hash routine for String objects.
      *
-     * @param n the number to test.
-     * @return the result of the test.
+     * @param key       the String to hash.
+     * @param tableSize the size of the hash table.
+     * @return the hash value.
      */
-    private static boolean isPrime(int n) {
-        if (n == 2 || n == 3)
-            return true;
-
-        if (n == 1 || n % 2 == 0)
-            return false;
+    public static int hash(String key, int tableSize) {
+        int hashVal = Hashers.POLYNOMIAL.hash(key);
 
-        for (int i = 3; i * i <= n; i += 2)
-            if (n % i == 0)
-                return false;
+        hashVal %= tableSize;
+        if (hashVal < 0)
+            hashVal += tableSize;
 
-        return true;
+        return hashVal;
     }
 
-}
\ No newline at end of file
+    private static final int DEFAULT_TABLE_SIZE = 101;
+
+    /**
+     * The chaining engine. Every item is mapped to itself; the value is
+     * the stored item, which replace() can swap for an equal one.
+     */
+    private final SeparateChainingHashMap<AnyType, AnyType> theMap;
+
+}
@@ -0,0 +1,109 @@
+/**************************************************************************
+ * @file: SipHasher.java
+ * @description: This program implements SipHash-2-4, a keyed hash function,
+ *               over the UTF-16 characters of a string. Without the 128-bit
+ *               key an attacker can not predict which strings collide, so a
+ *               table that switches to a randomly keyed SipHasher can not be
+ *               flooded with keys chosen to share one chain.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.security.SecureRandom;
+
+// SipHasher class
+//
+// CONSTRUCTION: a random key, or a given 128-bit key as two longs
+//
+// ******************PUBLIC OPERATIONS*********************
+// int hash( s )                  --> Return the keyed hash of s
+// Hasher<U> on( f )              --> Return a hasher that hashes f(k)
+
+public class SipHasher implements Hasher<CharSequence> {
+    /**
+     * Construct a hasher with a key drawn from a SecureRandom.
+     */
+    public SipHasher() {
+        this(SEED_SOURCE.nextLong(), SEED_SOURCE.nextLong());
+    }
+
+    /**
+     * Construct a hasher with a given key.
+     *
+     * @param k0 the low 64 bits of the key.
+     * @param k1 the high 64 bits of the key.
+     */
+    public SipHasher(long k0, long k1) {
+        this.k0 = k0;
+        this.k1 = k1;
+    }
+
+    /**
+     * Compute the keyed hash of a string. The characters are read as
+     * little-endian byte pairs, four to a 64-bit word.
+     *
+     * @param key the string to hash.
+     * @return the low 32 bits of the 64-bit SipHash, XORed with the high 32 bits.
+     */
+    public int hash(CharSequence key) {
+        long[] v = {
+                k0 ^ 0x736F6D6570736575L, k1 ^ 0x646F72616E646F6DL,
+                k0 ^ 0x6C7967656E657261L, k1 ^ 0x7465646279746573L };
+
+        int n = key.length();
+        int i = 0;
+        for (; i + 4 <= n; i += 4) {
+            long m = key.charAt(i) | (long) key.charAt(i + 1) << 16
+                    | (long) key.charAt(i + 2) << 32 | (long) key.charAt(i + 3) << 48;
+            compress(v, m);
+        }
+
+        // The last word holds the leftover characters and the byte length
+        long m = (long) (2 * n) << 56;
+        for (int shift = 0; i < n; i++, shift += 16)
+            m |= (long) key.charAt(i) << shift;
+        compress(v, m);
+
+        // Four finalization rounds
+        v[2] ^= 0xFF;
+        for (int round = 0; round < 4; round++)
+            sipRound(v);
+
+        long h = v[0] ^ v[1] ^ v[2] ^ v[3];
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Mix one 64-bit message word into the state with two compression rounds.
+     *
+     * @param v the state words v0 to v3, updated in place.
+     * @param m the message word.
+     */
+    private static void compress(long[] v, long m) {
+        v[3] ^= m;
+        sipRound(v);
+        sipRound(v);
+        v[0] ^= m;
+    }
+
+    /**
+     * Apply one SipRound to the state. Once inlined, the array does not
+     * escape hash(), so the JIT can keep the four words in registers.
+     *
+     * @param v the state words v0 to v3, updated in place.
+     */
+    private static void sipRound(long[] v) {
+        v[0] += v[1]; v[1] = Long.rotateLeft(v[1], 13); v[1] ^= v[0]; v[0] = Long.rotateLeft(v[0], 32);
+        v[2] += v[3]; v[3] = Long.rotateLeft(v[3], 16); v[3] ^= v[2];
+        v[0] += v[3]; v[3] = Long.rotateLeft(v[3], 21); v[3] ^= v[0];
+        v[2] += v[1]; v[1] = Long.rotateLeft(v[1], 17); v[1] ^= v[2]; v[2] = Long.rotateLeft(v[2], 32);
+    }
+
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    /**
+     * The 128-bit key.
+     */
+    private final long k0;
+    private final long k1;
+}
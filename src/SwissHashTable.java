@@ -0,0 +1,363 @@
+/**************************************************************************
+ * @file: SwissHashTable.java
+ * @description: This program implements a hash table in the style of
+ *               SwissTable. Slots are grouped eight at a time, and each
+ *               group keeps one control byte per slot (empty, deleted, or
+ *               a 7-bit fingerprint of the item's hash) packed into a long.
+ *               A search compares all eight control bytes in a few word
+ *               operations (SWAR) and only calls equals() on slots whose
+ *               fingerprint matches, so misses rarely touch an item at all.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+
+import java.util.Arrays;
+
+// Swiss Hash table class
+//
+// CONSTRUCTION: an approximate initial size or default of 128
+//
+// ******************PUBLIC OPERATIONS*********************
+// void insert( x )       --> Insert x
+// AnyType remove( x )    --> Remove x, return the removed item
+// boolean contains( x )  --> Return true if x is present
+// void makeEmpty( )      --> Remove all items
+
+public class SwissHashTable<AnyType> implements HashTable<AnyType> {
+    /**
+     * Construct the hash table.
+     */
+    public SwissHashTable() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Construct the hash table.
+     *
+     * @param size approximate number of slots.
+     */
+    public SwissHashTable(int size) {
+        allocateArrays(nextPowerOfTwo(size / GROUP_SIZE));
+        currentSize = 0;
+    }
+
+    /**
+     * Insert into the hash table. If the item is
+     * already present, then do nothing. Rehash if
+     * live and deleted slots exceed the maximum load factor.
+     *
+     * @param x the item to insert.
+     */
+    public void insert(AnyType x) {
+        int hashVal = mix(x.hashCode());
+        if (findPos(x, hashVal) >= 0)
+            return;
+
+        // Deleted slots still lengthen probes, so they count towards the load
+        if (currentSize + deletedSize >= maxLoadSize) {
+            // Mostly deleted slots: rebuild at the same size to clear them
+            rehash(currentSize >= maxLoadSize / 2 ? 2 * numGroups : numGroups);
+        }
+
+        placeItem(x, hashVal);
+        currentSize++;
+    }
+
+    /**
+     * Remove from the hash table.
+     *
+     * @param x the item to remove.
+     * @return the stored item that was removed, or null if x was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public AnyType remove(AnyType x) {
+        int pos = findPos(x, mix(x.hashCode()));
+        if (pos < 0)
+            return null;
+        AnyType removed = (AnyType) theItems[pos];
+        theItems[pos] = null;
+
+        // A group that still has an empty slot has never been full, so no
+        // probe has passed it and the slot can become empty again;
+        // otherwise leave a tombstone so later probes keep going
+        int group = pos / GROUP_SIZE;
+        if (matchEmpty(theControls[group]) != 0) {
+            setControl(pos, EMPTY);
+        } else {
+            setControl(pos, DELETED);
+            deletedSize++;
+        }
+        currentSize--;
+        return removed;
+    }
+
+    /**
+     * Find an item in the hash table.
+     *
+     * @param x the item to search for.
+     * @return true if x is found, false otherwise.
+     */
+    public boolean contains(AnyType x) {
+        return findPos(x, mix(x.hashCode())) >= 0;
+    }
+
+    /**
+     * Make the hash table logically empty by clearing the slot array
+     * and marking every control byte empty.
+     */
+    public void makeEmpty() {
+        Arrays.fill(theItems, null);
+        Arrays.fill(theControls, ALL_EMPTY);
+        currentSize = 0;
+        deletedSize = 0;
+    }
+
+    /**
+     * Return the number of slots. For tests.
+     *
+     * @return the number of slots.
+     */
+    int capacity() {
+        return theItems.length;
+    }
+
+    /**
+     * Return the number of deleted slots (tombstones). For tests.
+     *
+     * @return the number of deleted slots.
+     */
+    int deletedCount() {
+        return deletedSize;
+    }
+
+    /**
+     * Find the slot that holds x, probing group by group until a group
+     * with an empty slot shows x can not be any further along.
+     *
+     * @param x       the item to search for.
+     * @param hashVal the mixed hash code of x.
+     * @return the slot index, or -1 if x is not present.
+     */
+    private int findPos(Object x, int hashVal) {
+        long pattern = fingerprint(hashVal) * LSBS;
+        int group = homeGroup(hashVal);
+
+        for (int step = 1; ; step++) {
+            long controls = theControls[group];
+
+            // Only slots whose fingerprint matches are compared with equals()
+            for (long match = matchByte(controls, pattern); match != 0; match &= match - 1) {
+                int pos = group * GROUP_SIZE + (Long.numberOfTrailingZeros(match) >>> 3);
+                if (x.equals(theItems[pos]))
+                    return pos;
+            }
+
+            if (matchEmpty(controls) != 0 || step > numGroups)
+                return -1;
+
+            // Triangular probing visits every group once
+            group = (group + step) & groupMask;
+        }
+    }
+
+    /**
+     * Place an absent item in the first empty or deleted slot on its probe sequence.
+     *
+     * @param x       the item to place.
+     * @param hashVal the mixed hash code of x.
+     */
+    private void placeItem(Object x, int hashVal) {
+        int group = homeGroup(hashVal);
+
+        for (int step = 1; ; step++) {
+            long free = matchEmptyOrDeleted(theControls[group]);
+            if (free != 0) {
+                int pos = group * GROUP_SIZE + (Long.numberOfTrailingZeros(free) >>> 3);
+                if (controlAt(pos) == DELETED)
+                    deletedSize--;
+                theItems[pos] = x;
+                setControl(pos, fingerprint(hashVal));
+                return;
+            }
+            group = (group + step) & groupMask;
+        }
+    }
+
+    /**
+     * Rehash the table by creating a new table with the given number of
+     * groups and reinserting all elements from the old table.
+     *
+     * @param newGroups the number of groups (a power of two).
+     */
+    private void rehash(int newGroups) {
+        // Save the old slot array
+        Object[] oldItems = theItems;
+
+        // Create new arrays; every control byte starts out empty
+        allocateArrays(newGroups);
+
+        // Copy elements from old table to new table; they are all distinct,
+        // so no equality checks are needed
+        for (Object item : oldItems) {
+            if (item != null)
+                placeItem(item, mix(item.hashCode()));
+        }
+    }
+
+    /**
+     * Allocate the slot and control arrays and derived fields for a given
+     * number of groups.
+     *
+     * @param groups the number of groups (a power of two).
+     */
+    private void allocateArrays(int groups) {
+        numGroups = groups;
+        groupMask = groups - 1;
+        theItems = new Object[groups * GROUP_SIZE];
+        theControls = new long[groups];
+        Arrays.fill(theControls, ALL_EMPTY);
+        deletedSize = 0;
+        maxLoadSize = (int) (theItems.length * MAX_LOAD);
+    }
+
+    /**
+     * Scramble a hash code (MurmurHash3's finalizer) so that both the
+     * home group and the fingerprint see well-mixed bits.
+     *
+     * @param h the hash code.
+     * @return the mixed hash.
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Map a mixed hash to its home group, using the bits above the fingerprint.
+     *
+     * @param hashVal the mixed hash.
+     * @return the home group index.
+     */
+    private int homeGroup(int hashVal) {
+        return (hashVal >>> 7) & groupMask;
+    }
+
+    /**
+     * Take the 7-bit fingerprint of a mixed hash; it is the control byte
+     * of a full slot.
+     *
+     * @param hashVal the mixed hash.
+     * @return the fingerprint, 0 to 127.
+     */
+    private static long fingerprint(int hashVal) {
+        return hashVal & 0x7F;
+    }
+
+    /**
+     * Find the control bytes of a group equal to a byte repeated in
+     * pattern. A borrow can cause a rare false match (never a missed one),
+     * which the following equals() check rejects.
+     *
+     * @param controls the group's control bytes.
+     * @param pattern  the byte to find, repeated eight times.
+     * @return a mask with the high bit of each matching byte set.
+     */
+    private static long matchByte(long controls, long pattern) {
+        long x = controls ^ pattern;
+        return (x - LSBS) & ~x & MSBS;
+    }
+
+    /**
+     * Find the empty control bytes of a group. EMPTY is the only control
+     * byte with the high bit set and bit 1 clear.
+     *
+     * @param controls the group's control bytes.
+     * @return a mask with the high bit of each empty byte set.
+     */
+    private static long matchEmpty(long controls) {
+        return controls & ~(controls << 6) & MSBS;
+    }
+
+    /**
+     * Find the empty or deleted control bytes of a group, which are the
+     * bytes with the high bit set.
+     *
+     * @param controls the group's control bytes.
+     * @return a mask with the high bit of each free byte set.
+     */
+    private static long matchEmptyOrDeleted(long controls) {
+        return controls & MSBS;
+    }
+
+    /**
+     * Read the control byte of a slot.
+     *
+     * @param pos the slot index.
+     * @return the control byte, 0 to 255.
+     */
+    private long controlAt(int pos) {
+        return (theControls[pos / GROUP_SIZE] >>> (8 * (pos % GROUP_SIZE))) & 0xFF;
+    }
+
+    /**
+     * Overwrite the control byte of a slot.
+     *
+     * @param pos     the slot index.
+     * @param control the new control byte, 0 to 255.
+     */
+    private void setControl(int pos, long control) {
+        int shift = 8 * (pos % GROUP_SIZE);
+        int group = pos / GROUP_SIZE;
+        theControls[group] = (theControls[group] & ~(0xFFL << shift)) | (control << shift);
+    }
+
+    private static final int DEFAULT_TABLE_SIZE = 128;
+    private static final double MAX_LOAD = 0.875;
+
+    /**
+     * The slots per group, which is the number of control bytes in a long.
+     */
+    private static final int GROUP_SIZE = 8;
+
+    /**
+     * Control bytes: a full slot holds its 7-bit fingerprint instead.
+     */
+    private static final long EMPTY = 0x80;
+    private static final long DELETED = 0xFE;
+
+    /**
+     * Word constants for the SWAR byte matching.
+     */
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+    private static final long ALL_EMPTY = EMPTY * LSBS;
+
+    /**
+     * The array of items and the control bytes of each group.
+     */
+    private Object[] theItems;
+    private long[] theControls;
+    private int numGroups;
+    private int groupMask;
+    private int currentSize;
+    private int deletedSize;
+    private int maxLoadSize;
+
+    /**
+     * Internal method to find a power of two at least as large as n.
+     *
+     * @param n the starting number.
+     * @return a power of two larger than or equal to n (at least 2).
+     */
+    private static int nextPowerOfTwo(int n) {
+        if (n <= 2)
+            return 2;
+
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+
+}
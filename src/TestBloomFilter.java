@@ -0,0 +1,143 @@
+/**************************************************************************
+ * @file: TestBloomFilter.java
+ * @description: Test for the Bloom filter in front of SeparateChainingHashMap:
+ *               through growing, removes, shrinking, reinserts and
+ *               makeEmpty, every key in the map must pass the filter (no
+ *               false negatives) and be found, removed keys must not be
+ *               found, and absent keys must pass the filter at no more
+ *               than a few times the target false-positive rate. The
+ *               insert that starts a rehash must not rebuild the filter,
+ *               and keys put and removed while the rehash moves buckets
+ *               must stay correct in the filter that replaces it.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestBloomFilter {
+    public static void main( String [ ] args ) {
+        final int NUMS = 200000;
+        final double RATE = 0.01;
+
+        SeparateChainingHashMap<Integer, Integer> H = new SeparateChainingHashMap<>( );
+        H.enableBloomFilter( RATE );
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Grow from the default size; each rehash fills a larger filter
+        for( int i = 0; i < NUMS; i++ )
+            H.put( i, -i );
+        check( H, 0, NUMS, 1, "after growing" );
+
+        // Remove the odd keys
+        for( int i = 1; i < NUMS; i += 2 )
+            H.remove( i );
+        check( H, 0, NUMS, 2, "after removes" );
+
+        // Remove most of the rest, so the table shrinks
+        long rehashes = H.stats( ).rehashCount( );
+        for( int i = NUMS / 10; i < NUMS; i += 2 )
+            H.remove( i );
+        H.finishRehash( );
+        if( H.stats( ).rehashCount( ) == rehashes )
+            System.out.println( "OOPS!!! table did not shrink" );
+        check( H, 0, NUMS / 10, 2, "after shrinking" );
+
+        // Put the odd keys back, including ones the filter forgot
+        for( int i = 1; i < NUMS; i += 2 )
+            H.put( i, -i );
+        for( int i = 1; i < NUMS; i += 2 )
+            if( H.getOrDefault( i, 0 ) != -i )
+                System.out.println( "Find fails reinserted " + i );
+        check( H, 0, NUMS / 10, 1, "after reinserts" );
+
+        H.makeEmpty( );
+        if( H.containsKey( 0 ) || H.bloomFilter( ).mightContain( Integer.hashCode( 0 ) ) )
+            System.out.println( "OOPS!!! 0 after makeEmpty" );
+        H.put( 0, 0 );
+        check( H, 0, 1, 1, "after makeEmpty" );
+
+        checkMigration( RATE );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Grow a map until an insert starts a rehash, then put and remove keys
+     * while the buckets move. The insert must keep the old filter, which
+     * still covers every key, and the larger filter swapped in when the
+     * rehash finishes must hold exactly the keys left.
+     */
+    private static void checkMigration( double rate ) {
+        final int NUMS = 50000;
+
+        SeparateChainingHashMap<Integer, Integer> H = new SeparateChainingHashMap<>( );
+        H.enableBloomFilter( rate );
+        int next = 0;
+        for( ; next < NUMS; next++ )
+            H.put( next, -next );
+        H.finishRehash( );
+
+        // At the default maximum load of 1, the table grows on the insert
+        // that takes the size past the capacity
+        int capacity = H.stats( ).capacity( );
+        for( ; next < capacity; next++ )
+            H.put( next, -next );
+        CountingBloomFilter before = H.bloomFilter( );
+        long rehashes = H.stats( ).rehashCount( );
+        H.put( next, -next );
+        next++;
+        if( H.stats( ).rehashCount( ) != rehashes + 1 )
+            System.out.println( "OOPS!!! no rehash at size " + H.size( ) + ", capacity " + capacity );
+        if( H.bloomFilter( ) != before )
+            System.out.println( "OOPS!!! filter rebuilt on the insert that started a rehash" );
+
+        // Each operation moves a few buckets; remove the odd keys, from
+        // both moved and unmoved buckets, and add more
+        int grown = next;
+        for( int i = 1; i < grown; i += 2 ) {
+            H.remove( i );
+            H.put( next, -next );
+            if( !H.bloomFilter( ).mightContain( Integer.hashCode( next ) ) )
+                System.out.println( "OOPS!!! false negative " + next + " during rehash" );
+            next++;
+        }
+        H.finishRehash( );
+        if( H.bloomFilter( ) == before
+                || H.bloomFilter( ).expectedInsertions( ) <= before.expectedInsertions( ) )
+            System.out.println( "OOPS!!! filter not replaced after rehash" );
+
+        check( H, 0, grown, 2, "after rehash" );
+        check( H, grown, next, 1, "after rehash" );
+    }
+
+    /**
+     * Check that the keys from to to - 1 with the given step pass the
+     * filter and are found, that the keys between them are not found, and
+     * that far-off absent keys rarely pass the filter.
+     */
+    private static void check( SeparateChainingHashMap<Integer, Integer> H,
+                               int from, int to, int step, String when ) {
+        CountingBloomFilter filter = H.bloomFilter( );
+        for( int i = from; i < to; i++ ) {
+            boolean present = ( i - from ) % step == 0;
+            if( present && !filter.mightContain( Integer.hashCode( i ) ) )
+                System.out.println( "OOPS!!! false negative " + i + " " + when );
+            if( present && H.getOrDefault( i, 0 ) != -i )
+                System.out.println( "Find fails " + i + " " + when );
+            if( !present && H.containsKey( i ) )
+                System.out.println( "OOPS!!! " + i + " " + when );
+        }
+
+        // Keys far above any inserted one are all absent
+        final int TRIALS = 100000;
+        int passed = 0;
+        for( int i = 0; i < TRIALS; i++ )
+            if( filter.mightContain( Integer.hashCode( 1 << 30 | i ) ) )
+                passed++;
+        if( passed > 5 * filter.targetFalsePositiveRate( ) * TRIALS )
+            System.out.println( "OOPS!!! " + passed + " of " + TRIALS + " absent keys passed " + when );
+    }
+}
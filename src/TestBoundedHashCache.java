@@ -0,0 +1,80 @@
+/**************************************************************************
+ * @file: TestBoundedHashCache.java
+ * @description: Test for BoundedHashCache: the cache must never exceed its
+ *               maximum size, must return what was stored, and must keep a
+ *               hot working set resident through a long scan of one-off keys,
+ *               both bounded by count and bounded by a large total weight,
+ *               whose frequency sketch must be sized by entries, not weight.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestBoundedHashCache {
+    public static void main( String [ ] args ) {
+        final int MAX  = 1000; // cache size
+        final int HOT  =  500; // hot keys, used over and over
+        final int SCAN = 200000; // one-off keys
+
+        final int WEIGHT = 1 << 20; // weight of each value in the weighted cache
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        checkScan( new BoundedHashCache<>( MAX ), MAX, HOT, SCAN );
+
+        // A huge weight bound must not give a huge sketch
+        BoundedHashCache<Integer, Integer> W = new BoundedHashCache<>( (long) MAX * WEIGHT, value -> WEIGHT );
+        if( W.sketchWidth( ) > 16 )
+            System.out.println( "OOPS!!! empty cache has sketch width " + W.sketchWidth( ) );
+        checkScan( W, MAX, HOT, SCAN );
+        if( W.sketchWidth( ) > 4 * MAX )
+            System.out.println( "OOPS!!! sketch width " + W.sketchWidth( ) + " for " + MAX + " entries" );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Warm up hot keys, scan one-off keys past them, and check that the
+     * hot keys stayed and that the cache never held more than MAX entries.
+     */
+    private static void checkScan( BoundedHashCache<Integer, Integer> H, int MAX, int HOT, int SCAN ) {
+
+        // Warm the hot keys up
+        for( int round = 0; round < 20; round++ )
+            for( int i = 0; i < HOT; i++ )
+                if( H.get( i ) == null )
+                    H.put( i, -i );
+
+        // Scan one-off keys, touching the hot keys now and then
+        for( int i = 0; i < SCAN; i++ ) {
+            int key = HOT + i;
+            if( H.get( key ) == null )
+                H.put( key, -key );
+            if( i % 4 == 0 )
+                H.get( i / 4 % HOT );
+            if( H.size( ) > MAX )
+                System.out.println( "OOPS!!! size " + H.size( ) );
+        }
+
+        // The hot keys must have survived the scan with their values
+        int resident = 0;
+        for( int i = 0; i < HOT; i++ ) {
+            if( H.containsKey( i ) ) {
+                resident++;
+                if( H.get( i ) != -i )
+                    System.out.println( "Find fails " + i );
+            }
+        }
+        if( resident < HOT * 9 / 10 )
+            System.out.println( "OOPS!!! only " + resident + " hot keys resident" );
+
+        // Removed keys are gone
+        for( int i = 0; i < HOT; i++ )
+            H.remove( i );
+        for( int i = 0; i < HOT; i++ )
+            if( H.containsKey( i ) )
+                System.out.println( "OOPS!!! " + i );
+    }
+}
@@ -0,0 +1,91 @@
+/**************************************************************************
+ * @file: TestConcurrentChainingHashTable.java
+ * @description: Stress test for ConcurrentChainingHashTable: several
+ *               threads insert the same even keys into a small table, so
+ *               every segment resizes while they race, and remove the same
+ *               odd keys at the same time, while a reader checks that a set
+ *               of keys inserted beforehand is always found.
+ *               Each key must be removed by exactly one thread, and the
+ *               final size and membership must match the expected set.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestConcurrentChainingHashTable {
+    public static void main( String [ ] args ) throws InterruptedException {
+        final int ROUNDS = 10;
+        final int THREADS = 4;
+        final int NUMS = 100000;
+        final int STABLE = 2000;  // keys present throughout
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        for( int round = 0; round < ROUNDS; round++ ) {
+            ConcurrentChainingHashTable<Integer> H = new ConcurrentChainingHashTable<>( 4, 4 );
+            for( int i = 1; i <= STABLE; i++ )
+                H.insert( -i );
+
+            // The stable keys must be found through every resize
+            AtomicBoolean done = new AtomicBoolean( );
+            AtomicInteger missed = new AtomicInteger( );
+            Thread reader = new Thread( ( ) -> {
+                while( !done.get( ) )
+                    for( int i = 1; i <= STABLE; i++ )
+                        if( !H.contains( -i ) )
+                            missed.incrementAndGet( );
+            } );
+            reader.start( );
+
+            // The odd keys are in the table already; every writer inserts
+            // all the even keys and removes all the odd ones, each starting
+            // at a different point so they overlap, and the inserts keep
+            // the segments resizing
+            for( int i = 1; i < NUMS; i += 2 )
+                H.insert( i );
+            AtomicInteger removed = new AtomicInteger( );
+            Thread[] writers = new Thread[ THREADS ];
+            for( int t = 0; t < THREADS; t++ ) {
+                final int offset = t * NUMS / THREADS;
+                writers[ t ] = new Thread( ( ) -> {
+                    for( int i = 0; i < NUMS; i++ ) {
+                        int key = ( i + offset ) % NUMS;
+                        if( key % 2 == 0 )
+                            H.insert( key );
+                        else if( H.remove( key ) != null )
+                            removed.incrementAndGet( );
+                    }
+                } );
+                writers[ t ].start( );
+            }
+            for( Thread writer : writers )
+                writer.join( );
+            done.set( true );
+            reader.join( );
+
+            if( missed.get( ) != 0 )
+                System.out.println( "OOPS!!! stable keys missed " + missed.get( ) + " times" );
+            if( removed.get( ) != NUMS / 2 )
+                System.out.println( "OOPS!!! " + removed.get( ) + " successful removes, expected " + NUMS / 2 );
+            if( H.size( ) != STABLE + NUMS / 2 )
+                System.out.println( "OOPS!!! size " + H.size( ) + ", expected " + ( STABLE + NUMS / 2 ) );
+            for( int i = 0; i < NUMS; i++ )
+                if( H.contains( i ) != ( i % 2 == 0 ) )
+                    System.out.println( "Find fails " + i );
+            for( int i = 1; i <= STABLE; i++ )
+                if( !H.contains( -i ) )
+                    System.out.println( "Find fails " + -i );
+
+            H.makeEmpty( );
+            if( H.size( ) != 0 || H.contains( -1 ) || H.contains( 0 ) )
+                System.out.println( "OOPS!!! makeEmpty" );
+        }
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+}
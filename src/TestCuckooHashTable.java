@@ -0,0 +1,137 @@
+/**************************************************************************
+ * @file: TestCuckooHashTable.java
+ * @description: Stress test for CuckooHashTable, mirroring
+ *               TestSeparateChainingHashTable, then checks of the cuckoo
+ *               paths: keys with equal hash codes filling both buckets and
+ *               overflowing into the stash, an eviction walk that fails in
+ *               a half-full table and grows it, and removes from the
+ *               buckets and from the stash.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestCuckooHashTable {
+    public static void main( String [ ] args ) {
+        CuckooHashTable<Integer> H = new CuckooHashTable<>( );
+
+        long startTime = System.currentTimeMillis( );
+
+        final int NUMS = 2000000; //
+        final int GAP  =   37; // GAP is the step size
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Insert NUMS keys, but only NUMS/2 distinct keys
+        for( int i = GAP; i != 0; i = ( i + GAP ) % NUMS )
+            H.insert( i );
+
+        // Remove the even numbers
+        for( int i = 1; i < NUMS; i+= 2 )
+            H.remove( i );
+
+        // Test if the even numbers are still there
+        for( int i = 2; i < NUMS; i+=2 )
+            if( !H.contains( i ) )
+                System.out.println( "Find fails " + i );
+
+        // Test if the odd numbers are still there
+        for( int i = 1; i < NUMS; i+=2 ) {
+            if( H.contains( i ) )
+                System.out.println( "OOPS!!! " +  i  );
+        }
+
+        checkCollisions( );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Check the stash and growth paths with keys whose hash codes are
+     * all equal, so they share one pair of buckets.
+     */
+    private static void checkCollisions( ) {
+        final int SIZE = 64;    // 16 buckets of 4 slots
+        final int BOTH = 8;     // slots in one key's two buckets
+        final int STASH = 4;    // initial stash size
+        final int COLLIDING = 40;
+
+        CuckooHashTable<Key> H = new CuckooHashTable<>( SIZE );
+
+        // Two full buckets, then a full stash
+        for( int i = 0; i < BOTH + STASH; i++ )
+            H.insert( new Key( i, 42 ) );
+        if( H.stashSize( ) != STASH )
+            System.out.println( "OOPS!!! stash size " + H.stashSize( ) );
+
+        // Load the table past half full with ordinary keys
+        for( int i = 0; i < SIZE / 2; i++ )
+            H.insert( new Key( 1000 + i, i * 0x9E3779B9 ) );
+        if( H.capacity( ) != SIZE )
+            System.out.println( "OOPS!!! grew early to " + H.capacity( ) );
+
+        // The next colliding key's walk fails with a full stash, so the table grows
+        H.insert( new Key( BOTH + STASH, 42 ) );
+        if( H.capacity( ) <= SIZE )
+            System.out.println( "OOPS!!! table did not grow" );
+
+        // Growing can not separate equal hash codes, so the stash grows instead
+        for( int i = BOTH + STASH + 1; i < COLLIDING; i++ )
+            H.insert( new Key( i, 42 ) );
+        if( H.stashSize( ) != COLLIDING - BOTH )
+            System.out.println( "OOPS!!! stash size " + H.stashSize( ) );
+
+        checkFound( H, 0, COLLIDING );
+        for( int i = 0; i < SIZE / 2; i++ )
+            if( !H.contains( new Key( 1000 + i, i * 0x9E3779B9 ) ) )
+                System.out.println( "Find fails ordinary " + i );
+
+        // A colliding key that is absent is not found in the stash
+        if( H.contains( new Key( COLLIDING, 42 ) ) )
+            System.out.println( "OOPS!!! absent colliding key found" );
+
+        // Remove the colliding keys in order: bucket removes pull stashed
+        // keys back in, and later removes come from the stash
+        for( int i = 0; i < COLLIDING; i++ ) {
+            if( H.remove( new Key( i, 42 ) ) == null )
+                System.out.println( "Remove fails " + i );
+            if( H.contains( new Key( i, 42 ) ) )
+                System.out.println( "OOPS!!! " + i + " after remove" );
+            checkFound( H, i + 1, COLLIDING );
+        }
+        if( H.stashSize( ) != 0 )
+            System.out.println( "OOPS!!! stash size " + H.stashSize( ) + " when empty" );
+    }
+
+    /**
+     * Check that the colliding keys from to to - 1 are all present.
+     */
+    private static void checkFound( CuckooHashTable<Key> H, int from, int to ) {
+        for( int i = from; i < to; i++ )
+            if( !H.contains( new Key( i, 42 ) ) )
+                System.out.println( "Find fails colliding " + i );
+    }
+
+    /**
+     * A key with a chosen hash code, equal to keys with the same id.
+     */
+    private static final class Key {
+        private final int id;
+        private final int hash;
+
+        Key( int id, int hash ) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals( Object obj ) {
+            return obj instanceof Key && ( (Key) obj ).id == id;
+        }
+
+        @Override
+        public int hashCode( ) {
+            return hash;
+        }
+    }
+}
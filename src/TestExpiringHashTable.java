@@ -0,0 +1,80 @@
+/**************************************************************************
+ * @file: TestExpiringHashTable.java
+ * @description: Test for ExpiringHashTable, driven by a fake clock: items
+ *               must be found until their time-to-live runs out and never
+ *               after, reinserting must restart the time-to-live,
+ *               expired items must be reclaimed by cleanUp, and a negative
+ *               time-to-live must be rejected.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+import java.util.concurrent.TimeUnit;
+
+public class TestExpiringHashTable {
+    private static long now = 0; // fake clock, in nanoseconds
+
+    public static void main( String [ ] args ) {
+        final int NUMS = 100000;
+        final long SECOND = TimeUnit.SECONDS.toNanos( 1 );
+
+        ExpiringHashTable<Integer> H = new ExpiringHashTable<>( 10, TimeUnit.SECONDS, ( ) -> now );
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Even items live the default 10 s, odd items 1 s per 1000 of value
+        for( int i = 0; i < NUMS; i++ )
+            if( i % 2 == 0 )
+                H.insert( i );
+            else
+                H.insert( i, i / 1000 + 1, TimeUnit.SECONDS );
+
+        // Step the clock a second at a time
+        for( int t = 1; t <= 12; t++ ) {
+            now = t * SECOND;
+            for( int i = 37; i < NUMS; i += 37 ) {
+                long ttl = i % 2 == 0 ? 10 : i / 1000 + 1;
+                if( H.contains( i ) != ( t < ttl ) )
+                    System.out.println( "OOPS!!! " + i + " at " + t + " s" );
+            }
+
+            // Refresh one item each second; it must outlive the others
+            H.insert( 0 );
+        }
+        if( !H.contains( 0 ) )
+            System.out.println( "OOPS!!! refreshed item expired" );
+
+        // Only the refreshed item and the long-lived odd items remain
+        H.cleanUp( );
+        int live = 1;
+        for( int i = 1; i < NUMS; i += 2 )
+            if( i / 1000 + 1 > 12 )
+                live++;
+        if( H.size( ) != live )
+            System.out.println( "OOPS!!! size " + H.size( ) + ", expected " + live );
+
+        // A very long time-to-live does not expire, and removed items are gone
+        H.insert( -1, Long.MAX_VALUE, TimeUnit.DAYS );
+        now += 1000 * TimeUnit.DAYS.toNanos( 1 );
+        H.cleanUp( );
+        if( H.remove( -1 ) == null || H.contains( -1 ) )
+            System.out.println( "OOPS!!! long-lived item" );
+        if( H.size( ) != 0 )
+            System.out.println( "OOPS!!! size " + H.size( ) + " after 1000 days" );
+
+        // A negative time-to-live is rejected without adding the item
+        try {
+            H.insert( -2, -1, TimeUnit.SECONDS );
+            System.out.println( "OOPS!!! negative ttl accepted" );
+        } catch( IllegalArgumentException e ) {
+            // Expected
+        }
+        if( H.contains( -2 ) || H.size( ) != 0 )
+            System.out.println( "OOPS!!! item with negative ttl added" );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+}
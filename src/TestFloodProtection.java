@@ -0,0 +1,72 @@
+/**************************************************************************
+ * @file: TestFloodProtection.java
+ * @description: Test for SeparateChainingHashMap flood protection: keys
+ *               that all share one String.hashCode must make a protected
+ *               map reseed, after which every key is still found with its
+ *               value and no bucket is longer than the flood threshold,
+ *               while an unprotected map keeps them all in one bucket.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestFloodProtection {
+    public static void main( String [ ] args ) {
+        final int PAIRS = 13;          // 2^13 colliding keys
+        final int NUMS = 1 << PAIRS;
+        final int MAX_CHAIN = 16;      // the map's flood threshold
+
+        SeparateChainingHashMap<String, Integer> H = new SeparateChainingHashMap<>( );
+        H.enableFloodProtection( null );
+        SeparateChainingHashMap<String, Integer> U = new SeparateChainingHashMap<>( );
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        for( int i = 0; i < NUMS; i++ ) {
+            H.put( collidingKey( i, PAIRS ), i );
+            U.put( collidingKey( i, PAIRS ), i );
+        }
+
+        if( H.reseedCount( ) == 0 )
+            System.out.println( "OOPS!!! flooded map did not reseed" );
+        if( U.reseedCount( ) != 0 || U.stats( ).maxChainLength( ) != NUMS )
+            System.out.println( "OOPS!!! unprotected map has max chain " + U.stats( ).maxChainLength( ) );
+
+        // Every key survived the reseed, and the buckets are short again
+        if( H.size( ) != NUMS )
+            System.out.println( "OOPS!!! size " + H.size( ) );
+        for( int i = 0; i < NUMS; i++ )
+            if( H.getOrDefault( collidingKey( i, PAIRS ), -1 ) != i )
+                System.out.println( "Find fails " + i );
+        if( H.stats( ).maxChainLength( ) > MAX_CHAIN )
+            System.out.println( "OOPS!!! max chain " + H.stats( ).maxChainLength( ) + " after reseeding" );
+
+        // Keys that collide with the flood but were never added are absent
+        for( int i = 0; i < NUMS; i++ )
+            if( H.containsKey( collidingKey( i, PAIRS + 1 ) ) )
+                System.out.println( "OOPS!!! " + collidingKey( i, PAIRS + 1 ) );
+
+        // Removes still work under the new hash
+        for( int i = 0; i < NUMS; i += 2 )
+            if( H.remove( collidingKey( i, PAIRS ) ) != i )
+                System.out.println( "Remove fails " + i );
+        for( int i = 0; i < NUMS; i++ )
+            if( H.containsKey( collidingKey( i, PAIRS ) ) != ( i % 2 == 1 ) )
+                System.out.println( "OOPS!!! " + i + " after removes" );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Build the n-th string of "Aa" and "BB" pairs; every such string of
+     * the same length has the same String.hashCode.
+     */
+    private static String collidingKey( int n, int pairs ) {
+        StringBuilder key = new StringBuilder( );
+        for( int bit = 0; bit < pairs; bit++ )
+            key.append( ( ( n >> bit ) & 1 ) == 0 ? "Aa" : "BB" );
+        return key.toString( );
+    }
+}
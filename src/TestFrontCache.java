@@ -0,0 +1,111 @@
+/**************************************************************************
+ * @file: TestFrontCache.java
+ * @description: Test for the front cache of SeparateChainingHashMap: a
+ *               repeated lookup must be answered from the cache, a removed
+ *               or emptied key must never be returned from it, a replaced
+ *               value must show at once, and a long random run of puts,
+ *               removes, lookups and makeEmpty calls on hot and colliding
+ *               keys must agree with java.util.HashMap throughout.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Random;
+
+public class TestFrontCache {
+    public static void main( String [ ] args ) {
+        final int SLOTS = 16;
+        final int NUMS = 1000;
+
+        SeparateChainingHashMap<Integer, Integer> H = new SeparateChainingHashMap<>( );
+        H.enableFrontCache( SLOTS );
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        for( int i = 0; i < NUMS; i++ )
+            H.put( i, -i );
+
+        // The second lookup of a key is a front cache hit
+        H.get( 7 );
+        H.resetStats( );
+        if( H.get( 7 ) != -7 || H.stats( ).frontCacheHits( ) != 1 )
+            System.out.println( "OOPS!!! repeat lookup not cached" );
+
+        // A removed key is dropped from the cache
+        H.remove( 7 );
+        if( H.get( 7 ) != null || H.containsKey( 7 ) )
+            System.out.println( "OOPS!!! removed key found" );
+
+        // A key put back gets its new value, not the cached node's
+        H.put( 7, 70 );
+        H.get( 7 );
+        H.put( 7, 700 );
+        if( H.get( 7 ) != 700 )
+            System.out.println( "OOPS!!! stale value " + H.get( 7 ) );
+
+        // makeEmpty drops every cached key
+        for( int i = 0; i < SLOTS; i++ )
+            H.get( i );
+        H.makeEmpty( );
+        for( int i = 0; i < NUMS; i++ )
+            if( H.get( i ) != null )
+                System.out.println( "OOPS!!! " + i + " after makeEmpty" );
+        H.put( 3, 30 );
+        if( H.get( 3 ) != 30 || H.get( 4 ) != null )
+            System.out.println( "OOPS!!! put after makeEmpty" );
+
+        checkRandom( );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Compare a small front-cached map with a HashMap over random
+     * operations. Half the lookups go to a few hot keys, and a third of
+     * the keys share one hash code, so their chains become tree bins.
+     */
+    private static void checkRandom( ) {
+        final int OPS = 1000000;
+        final int HOT = 32;
+        final int KEYS = 4096;
+
+        SeparateChainingHashMap<String, Integer> H = new SeparateChainingHashMap<>( );
+        H.enableFrontCache( 8 );
+        HashMap<String, Integer> expected = new HashMap<>( );
+        Random random = new Random( 42 );
+
+        // Strings of "Aa" and "BB" pairs all have the same hash code
+        String[] keys = new String[ KEYS ];
+        for( int i = 0; i < KEYS; i++ ) {
+            StringBuilder key = new StringBuilder( );
+            for( int bit = 0; bit < 12; bit++ )
+                key.append( ( ( i >> bit ) & 1 ) == 0 ? "Aa" : "BB" );
+            keys[ i ] = i % 3 == 0 ? key.toString( ) : "key" + i;
+        }
+
+        for( int op = 0; op < OPS; op++ ) {
+            String key = keys[ random.nextInt( random.nextBoolean( ) ? HOT : KEYS ) ];
+            int choice = random.nextInt( 10 );
+            if( choice < 3 ) {
+                Integer value = random.nextInt( );
+                if( !Objects.equals( H.put( key, value ), expected.put( key, value ) ) )
+                    System.out.println( "OOPS!!! put " + key + " at " + op );
+            } else if( choice < 5 ) {
+                if( !Objects.equals( H.remove( key ), expected.remove( key ) ) )
+                    System.out.println( "OOPS!!! remove " + key + " at " + op );
+            } else if( choice == 5 && random.nextInt( 2000 ) == 0 ) {
+                H.makeEmpty( );
+                expected.clear( );
+            } else if( !Objects.equals( H.get( key ), expected.get( key ) ) ) {
+                System.out.println( "OOPS!!! get " + key + " at " + op );
+            }
+        }
+        if( H.size( ) != expected.size( ) )
+            System.out.println( "OOPS!!! size " + H.size( ) + ", expected " + expected.size( ) );
+    }
+}
@@ -0,0 +1,48 @@
+/**************************************************************************
+ * @file: TestIntHashSet.java
+ * @description: Stress test for IntHashSet, mirroring
+ *               TestSeparateChainingHashTable. The number of keys can be
+ *               passed on the command line to scale past 100M.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestIntHashSet {
+    public static void main( String [ ] args ) {
+        IntHashSet H = new IntHashSet( );
+
+        long startTime = System.currentTimeMillis( );
+
+        final int NUMS = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : 2000000; //
+        final int GAP  =   37; // GAP is the step size
+
+        if( NUMS % GAP == 0 ) {
+            System.err.println( "NUMS must not be a multiple of " + GAP );
+            System.exit( 1 );
+        }
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Insert NUMS keys, but only NUMS/2 distinct keys
+        for( int i = GAP; i != 0; i = (int) ( ( (long) i + GAP ) % NUMS ) )
+            H.insert( i );
+
+        // Remove the even numbers
+        for( int i = 1; i < NUMS; i+= 2 )
+            H.remove( i );
+
+        // Test if the even numbers are still there
+        for( int i = 2; i < NUMS; i+=2 )
+            if( !H.contains( i ) )
+                System.out.println( "Find fails " + i );
+
+        // Test if the odd numbers are still there
+        for( int i = 1; i < NUMS; i+=2 ) {
+            if( H.contains( i ) )
+                System.out.println( "OOPS!!! " +  i  );
+        }
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+}
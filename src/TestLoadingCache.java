@@ -0,0 +1,198 @@
+/**************************************************************************
+ * @file: TestLoadingCache.java
+ * @description: Test for LoadingCache: threads missing on the same key at
+ *               once must share one load, getAll must load its missing keys
+ *               in one bulk call, a failed load must not be cached, and an
+ *               entry past its refresh interval must be reloaded in the
+ *               background while its old value is still returned, and a
+ *               reload that throws an Error must not block later reloads.
+ *               A bulk loader that returns null or a map that throws must
+ *               still leave no getAll waiting forever.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestLoadingCache {
+    public static void main( String [ ] args ) throws Exception {
+        final int THREADS = 32;
+        final int NUMS = 1000;
+        final int REFRESH = 500; // long enough that nothing is stale before we wait
+
+        AtomicInteger version = new AtomicInteger( );
+        ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+
+        // Keys are records with no GDP; the loader fills in a GDP
+        LoadingCache<gdp2025, gdp2025> H = new LoadingCache<>( key -> {
+            sleep( 20 );
+            if( key.getCountry( ).startsWith( "Bad" ) )
+                throw new IllegalStateException( "no data for " + key.getCountry( ) );
+            return new gdp2025( key.getCountry( ), version.get( ) );
+        }, keys -> {
+            Map<gdp2025, gdp2025> result = new HashMap<>( );
+            for( gdp2025 key : keys )
+                result.put( key, new gdp2025( key.getCountry( ), version.get( ) ) );
+            return result;
+        }, REFRESH, TimeUnit.MILLISECONDS, executor );
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Many threads miss on one key at once
+        CountDownLatch start = new CountDownLatch( 1 );
+        ArrayList<java.util.concurrent.Future<gdp2025>> results = new ArrayList<>( );
+        for( int i = 0; i < THREADS; i++ )
+            results.add( executor.submit( ( ) -> {
+                start.await( );
+                return H.get( new gdp2025( "France", 0 ) );
+            } ) );
+        start.countDown( );
+        gdp2025 first = results.get( 0 ).get( );
+        for( java.util.concurrent.Future<gdp2025> result : results )
+            if( result.get( ) != first )
+                System.out.println( "OOPS!!! threads saw different loads" );
+        if( H.loadCount( ) != 1 )
+            System.out.println( "OOPS!!! " + H.loadCount( ) + " loads for one key" );
+
+        // getAll loads the missing keys in one call
+        ArrayList<gdp2025> keys = new ArrayList<>( );
+        for( int i = 0; i < NUMS; i++ )
+            keys.add( new gdp2025( "Country" + i, 0 ) );
+        keys.add( new gdp2025( "France", 0 ) );
+        Map<gdp2025, gdp2025> all = H.getAll( keys );
+        if( all.size( ) != NUMS + 1 || all.get( new gdp2025( "France", 0 ) ) != first )
+            System.out.println( "OOPS!!! getAll returned " + all.size( ) );
+        if( H.loadCount( ) != 2 || H.size( ) != NUMS + 1 )
+            System.out.println( "OOPS!!! loads " + H.loadCount( ) + ", size " + H.size( ) );
+
+        // A failed load is thrown to the caller and not cached
+        for( int i = 0; i < 2; i++ ) {
+            try {
+                H.get( new gdp2025( "Bad", 0 ) );
+                System.out.println( "OOPS!!! no exception" );
+            } catch( IllegalStateException e ) {
+                // expected
+            }
+        }
+        if( H.getIfPresent( new gdp2025( "Bad", 0 ) ) != null || H.loadCount( ) != 4 )
+            System.out.println( "OOPS!!! failed load cached" );
+
+        // Once stale, the old value is served while a reload runs
+        version.set( 1 );
+        sleep( REFRESH + 50 );
+        if( H.get( new gdp2025( "France", 0 ) ).getGdp( ) != 0 )
+            System.out.println( "OOPS!!! stale get waited for the reload" );
+        for( int tries = 0; tries < 100 && H.get( new gdp2025( "France", 0 ) ).getGdp( ) != 1; tries++ )
+            sleep( 10 );
+        if( H.get( new gdp2025( "France", 0 ) ).getGdp( ) != 1 )
+            System.out.println( "OOPS!!! refresh never happened" );
+
+        H.invalidateAll( );
+        if( H.size( ) != 0 || H.getIfPresent( first ) != null )
+            System.out.println( "OOPS!!! invalidateAll" );
+
+        executor.shutdown( );
+
+        checkReloadError( );
+        checkBadBulkLoads( );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Reload on the calling thread with a loader that throws an Error
+     * once; the Error reaches the caller, and the next stale get must
+     * start a new reload rather than find the old one still marked running.
+     */
+    private static void checkReloadError( ) {
+        AtomicInteger version = new AtomicInteger( );
+        java.util.concurrent.atomic.AtomicBoolean broken = new java.util.concurrent.atomic.AtomicBoolean( );
+        LoadingCache<String, Integer> H = new LoadingCache<>( key -> {
+            if( broken.get( ) )
+                throw new AssertionError( "loader broke" );
+            return version.get( );
+        }, 50, TimeUnit.MILLISECONDS, Runnable::run );
+
+        H.get( "France" );
+        version.set( 1 );
+        broken.set( true );
+        sleep( 60 );
+        try {
+            H.get( "France" );
+            System.out.println( "OOPS!!! reload Error swallowed" );
+        } catch( AssertionError e ) {
+            // Thrown by the reload, which ran on this thread
+        }
+
+        broken.set( false );
+        sleep( 60 );
+        H.get( "France" );
+        if( H.get( "France" ) != 1 || H.loadCount( ) != 3 )
+            System.out.println( "OOPS!!! no reload after an Error, " + H.loadCount( ) + " loads" );
+    }
+
+    /**
+     * Bulk loads that return null, or a map whose get throws partway
+     * through the keys, must complete every claimed key: getAll returns
+     * or throws instead of waiting forever, and only loaded keys stay.
+     */
+    private static void checkBadBulkLoads( ) throws Exception {
+        ExecutorService caller = Executors.newSingleThreadExecutor( );
+        AtomicInteger mode = new AtomicInteger( );
+        LoadingCache<String, Integer> H = new LoadingCache<>( key -> 0, keys -> {
+            if( mode.get( ) == 0 )
+                return null;
+            return new java.util.AbstractMap<String, Integer>( ) {
+                public Integer get( Object key ) {
+                    if( key.equals( "Bad" ) )
+                        throw new IllegalStateException( "no data for Bad" );
+                    return 1;
+                }
+
+                public java.util.Set<Map.Entry<String, Integer>> entrySet( ) {
+                    return java.util.Collections.emptySet( );
+                }
+            };
+        }, 0, TimeUnit.MILLISECONDS, Runnable::run );
+        java.util.List<String> keys = java.util.Arrays.asList( "France", "Bad", "Spain" );
+
+        // A null map loads nothing
+        Map<String, Integer> all = caller.submit( ( ) -> H.getAll( keys ) ).get( 5, TimeUnit.SECONDS );
+        if( !all.isEmpty( ) || H.size( ) != 0 )
+            System.out.println( "OOPS!!! null bulk load gave " + all + ", size " + H.size( ) );
+
+        // The map's failure reaches the caller; keys after it are not left claimed
+        mode.set( 1 );
+        try {
+            caller.submit( ( ) -> H.getAll( keys ) ).get( 5, TimeUnit.SECONDS );
+            System.out.println( "OOPS!!! bulk load failure swallowed" );
+        } catch( java.util.concurrent.ExecutionException e ) {
+            if( !( e.getCause( ) instanceof IllegalStateException ) )
+                System.out.println( "OOPS!!! bulk load threw " + e.getCause( ) );
+        }
+        if( H.size( ) != 1 || H.getIfPresent( "France" ) == null )
+            System.out.println( "OOPS!!! size " + H.size( ) + " after a failed bulk load" );
+        if( caller.submit( ( ) -> H.get( "Spain" ) ).get( 5, TimeUnit.SECONDS ) != 0 )
+            System.out.println( "OOPS!!! Spain not reloaded" );
+
+        caller.shutdown( );
+    }
+
+    private static void sleep( long millis ) {
+        try {
+            Thread.sleep( millis );
+        } catch( InterruptedException e ) {
+            Thread.currentThread( ).interrupt( );
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**************************************************************************
+ * @file: TestOffHeapGdpTable.java
+ * @description: Stress test for OffHeapGdpTable, mirroring
+ *               TestSeparateChainingHashTable: puts grow a small table
+ *               through many rehashes, updates and removes are checked
+ *               against the stored GDP values, a table of steady size
+ *               churned by removes and puts must not keep growing its key
+ *               arena, and every operation on a closed table must throw
+ *               IllegalStateException.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestOffHeapGdpTable {
+    public static void main( String [ ] args ) {
+        OffHeapGdpTable H = new OffHeapGdpTable( 2 );
+
+        long startTime = System.currentTimeMillis( );
+
+        final int NUMS = 400000;
+        final int GAP  =   37; // GAP is the step size
+        final int MISSING = -1;
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Put every key twice; the second put replaces the GDP
+        long startBytes = H.offHeapBytes( );
+        for( int i = GAP; i != 0; i = ( i + GAP ) % NUMS )
+            H.put( country( i ), i );
+        for( int i = GAP; i != 0; i = ( i + GAP ) % NUMS )
+            H.put( country( i ), 2 * i );
+        if( H.size( ) != NUMS - 1 )
+            System.out.println( "OOPS!!! size " + H.size( ) );
+        if( H.offHeapBytes( ) <= startBytes )
+            System.out.println( "OOPS!!! table did not grow" );
+
+        // Remove the odd numbers
+        for( int i = 1; i < NUMS; i += 2 )
+            H.remove( new gdp2025( country( i ), 0 ) );
+
+        // Test if the even numbers are still there with their new GDP
+        for( int i = 2; i < NUMS; i += 2 )
+            if( H.getGdp( country( i ), MISSING ) != 2 * i )
+                System.out.println( "Find fails " + i );
+
+        // Test if the odd numbers are gone
+        for( int i = 1; i < NUMS; i += 2 ) {
+            if( H.getGdp( country( i ), MISSING ) != MISSING
+                    || H.contains( new gdp2025( country( i ), 0 ) ) )
+                System.out.println( "OOPS!!! " + i );
+        }
+        if( H.size( ) != NUMS / 2 - 1 )
+            System.out.println( "OOPS!!! size " + H.size( ) + " after removes" );
+
+        // Closing frees the memory; the table may not be used afterwards
+        H.close( );
+        checkClosed( "put", ( ) -> H.put( country( 2 ), 2 ) );
+        checkClosed( "insert", ( ) -> H.insert( new gdp2025( country( 2 ), 2 ) ) );
+        checkClosed( "getGdp", ( ) -> H.getGdp( country( 2 ), MISSING ) );
+        checkClosed( "contains", ( ) -> H.contains( new gdp2025( country( 2 ), 0 ) ) );
+        checkClosed( "remove", ( ) -> H.remove( new gdp2025( country( 2 ), 0 ) ) );
+        checkClosed( "makeEmpty", H::makeEmpty );
+        checkClosed( "offHeapBytes", H::offHeapBytes );
+        if( H.size( ) != 0 )
+            System.out.println( "OOPS!!! size " + H.size( ) + " after close" );
+
+        checkChurn( );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Remove and put back the same live keys over and over. The names of
+     * removed keys must be reclaimed, so the memory used stays bounded.
+     */
+    private static void checkChurn( ) {
+        final int LIVE = 1000;
+        final int ROUNDS = 2000;
+
+        try( OffHeapGdpTable H = new OffHeapGdpTable( LIVE ) ) {
+            for( int i = 0; i < LIVE; i++ )
+                H.put( country( i ), i );
+            long settledBytes = 0;
+
+            for( int round = 1; round <= ROUNDS; round++ ) {
+                for( int i = 0; i < LIVE; i++ ) {
+                    H.remove( new gdp2025( country( i ), 0 ) );
+                    H.put( country( i ), round + i );
+                }
+                if( round == 10 )
+                    settledBytes = H.offHeapBytes( );
+            }
+
+            if( H.offHeapBytes( ) > settledBytes )
+                System.out.println( "OOPS!!! churn grew off-heap memory from " + settledBytes
+                        + " to " + H.offHeapBytes( ) + " bytes" );
+            if( H.size( ) != LIVE )
+                System.out.println( "OOPS!!! size " + H.size( ) + " after churn" );
+            for( int i = 0; i < LIVE; i++ )
+                if( H.getGdp( country( i ), -1 ) != ROUNDS + i )
+                    System.out.println( "Find fails " + i + " after churn" );
+        }
+    }
+
+    /**
+     * Build the country name of a test key.
+     */
+    private static String country( int i ) {
+        return "Country " + i;
+    }
+
+    /**
+     * Check that an operation on a closed table throws IllegalStateException.
+     */
+    private static void checkClosed( String name, Runnable operation ) {
+        try {
+            operation.run( );
+            System.out.println( "OOPS!!! " + name + " worked after close" );
+        } catch( IllegalStateException e ) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**************************************************************************
+ * @file: TestReferenceHashTable.java
+ * @description: Test for ReferenceHashTable: weakly held items that are
+ *               still referenced elsewhere must stay, the rest must be
+ *               reclaimed and counted once the collector has run, and a
+ *               softly held table must behave like an ordinary one while
+ *               its items are referenced.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+import java.util.ArrayList;
+
+public class TestReferenceHashTable {
+    public static void main( String [ ] args ) throws InterruptedException {
+        final int NUMS = 40000;
+
+        ReferenceHashTable<String> W = new ReferenceHashTable<>( ReferenceHashTable.Strength.WEAK );
+        ReferenceHashTable<String> S = new ReferenceHashTable<>( ReferenceHashTable.Strength.SOFT );
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Keep the even items alive; the odd ones are only in W. S holds
+        // only kept items, since a soft reference to an odd item would
+        // stop W from losing it until the collector cleared soft ones
+        ArrayList<String> kept = new ArrayList<>( );
+        for( int i = 0; i < NUMS; i++ ) {
+            String item = new String( "item" + i );
+            W.insert( item );
+            if( i % 2 == 0 ) {
+                S.insert( item );
+                kept.add( item );
+            }
+        }
+        for( int i = 0; i < NUMS; i++ )
+            if( S.contains( "item" + i ) != ( i % 2 == 0 ) )
+                System.out.println( "OOPS!!! soft " + i );
+
+        // Give the collector a few chances to clear the odd items
+        for( int tries = 0; tries < 50 && W.size( ) > NUMS / 2; tries++ ) {
+            System.gc( );
+            Thread.sleep( 10 );
+        }
+        if( W.size( ) != NUMS / 2 || W.reclaimedCount( ) != NUMS / 2 )
+            System.out.println( "OOPS!!! size " + W.size( ) + ", reclaimed " + W.reclaimedCount( ) );
+
+        for( int i = 0; i < NUMS; i++ )
+            if( W.contains( "item" + i ) != ( i % 2 == 0 ) )
+                System.out.println( "OOPS!!! weak " + i );
+
+        // Removed items are gone and not counted as reclaimed
+        for( int i = 0; i < NUMS; i += 4 )
+            if( W.remove( "item" + i ) == null )
+                System.out.println( "Remove fails " + i );
+        for( int i = 0; i < NUMS; i += 4 )
+            if( W.contains( "item" + i ) )
+                System.out.println( "OOPS!!! " + i );
+        if( W.size( ) != NUMS / 4 || W.reclaimedCount( ) != NUMS / 2 )
+            System.out.println( "OOPS!!! size " + W.size( ) + ", reclaimed " + W.reclaimedCount( ) );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) + ", " + kept.size( ) + " kept" );
+    }
+}
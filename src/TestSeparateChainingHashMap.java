@@ -0,0 +1,105 @@
+/**************************************************************************
+ * @file: TestSeparateChainingHashMap.java
+ * @description: Stress test for SeparateChainingHashMap, mirroring
+ *               TestSeparateChainingHashTable and also checking values,
+ *               then a check that stats() counts only the public searches
+ *               and that its histogram covers exactly the current buckets
+ *               while a rehash is in progress.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestSeparateChainingHashMap {
+    public static void main( String [ ] args ) {
+        SeparateChainingHashMap<Integer, Integer> H = new SeparateChainingHashMap<>( );
+
+        long startTime = System.currentTimeMillis( );
+
+        final int NUMS = 2000000; //
+        final int GAP  =   37; // GAP is the step size
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Insert NUMS keys, but only NUMS/2 distinct keys
+        for( int i = GAP; i != 0; i = ( i + GAP ) % NUMS )
+            H.put( i, -i );
+
+        // Remove the even numbers
+        for( int i = 1; i < NUMS; i+= 2 )
+            H.remove( i );
+
+        // Test if the even numbers are still there
+        for( int i = 2; i < NUMS; i+=2 )
+            if( H.getOrDefault( i, 0 ) != -i )
+                System.out.println( "Find fails " + i );
+
+        // Test if the odd numbers are still there
+        for( int i = 1; i < NUMS; i+=2 ) {
+            if( H.containsKey( i ) )
+                System.out.println( "OOPS!!! " +  i  );
+        }
+
+        checkStats( );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Check the search counters and the chain-length histogram.
+     */
+    private static void checkStats( ) {
+        final int KEYS = 1000;
+
+        SeparateChainingHashMap<Integer, Integer> H = new SeparateChainingHashMap<>( );
+
+        // Updates look keys up, but are not searches
+        boolean migrating = false;
+        for( int i = 0; i < KEYS; i++ ) {
+            long rehashes = H.stats( ).rehashCount( );
+            H.put( i, i );
+            H.putIfAbsent( i, -i );
+            H.replace( i, i );
+            H.computeIfAbsent( i, k -> -k );
+
+            // Right after a rehash starts, most keys are still in the old table
+            if( H.stats( ).rehashCount( ) != rehashes ) {
+                migrating = true;
+                checkHistogram( H.stats( ) );
+            }
+        }
+        if( !migrating )
+            System.out.println( "OOPS!!! no rehash started" );
+        HashTableStats stats = H.stats( );
+        if( stats.hits( ) != 0 || stats.misses( ) != 0 )
+            System.out.println( "OOPS!!! updates counted as " + stats.hits( )
+                    + " hits, " + stats.misses( ) + " misses" );
+
+        // Each public search counts once
+        for( int i = 0; i < 2 * KEYS; i++ )
+            H.containsKey( i );
+        for( int i = 0; i < KEYS; i++ )
+            H.get( i );
+        stats = H.stats( );
+        if( stats.hits( ) != 2 * KEYS || stats.misses( ) != KEYS )
+            System.out.println( "OOPS!!! searches counted as " + stats.hits( )
+                    + " hits, " + stats.misses( ) + " misses" );
+        checkHistogram( stats );
+    }
+
+    /**
+     * Check that a histogram counts every bucket once and every key once.
+     */
+    private static void checkHistogram( HashTableStats stats ) {
+        long[] histogram = stats.chainLengthHistogram( );
+        long buckets = 0;
+        long keys = 0;
+        for( int length = 0; length < histogram.length; length++ ) {
+            buckets += histogram[length];
+            keys += length * histogram[length];
+        }
+        if( buckets != stats.capacity( ) || keys != stats.size( ) )
+            System.out.println( "OOPS!!! histogram has " + buckets + " buckets, " + keys
+                    + " keys for " + stats.capacity( ) + ", " + stats.size( ) );
+    }
+}
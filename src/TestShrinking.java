@@ -0,0 +1,87 @@
+/**************************************************************************
+ * @file: TestShrinking.java
+ * @description: Test for SeparateChainingHashMap shrinking: a table that
+ *               grew must shrink again as keys are removed, must keep
+ *               every remaining key through the shrinking rehashes, and
+ *               must never drop below the size it was built with, in both
+ *               prime and power-of-two index modes.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestShrinking {
+    public static void main( String [ ] args ) {
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        checkShrinking( SeparateChainingHashMap.IndexMode.FAST_MODULO );
+        checkShrinking( SeparateChainingHashMap.IndexMode.POWER_OF_TWO );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Grow a table, remove almost every key, then churn one key in and
+     * out until the table has shrunk as far as it can.
+     */
+    private static void checkShrinking( SeparateChainingHashMap.IndexMode mode ) {
+        final int INITIAL = 1000;  // requested initial size
+        final int NUMS = 100000;
+        final int KEEP = 10;       // keys left after the removes
+        final int CHURN = 20000;
+
+        SeparateChainingHashMap<Integer, Integer> H = new SeparateChainingHashMap<>( INITIAL, mode, 1.0f, 0.25f );
+        int initialCapacity = H.stats( ).capacity( );
+
+        for( int i = 0; i < NUMS; i++ )
+            H.put( i, -i );
+        H.finishRehash( );
+        int peakCapacity = H.stats( ).capacity( );
+        if( peakCapacity <= initialCapacity )
+            System.out.println( "OOPS!!! " + mode + " did not grow" );
+
+        // Remove all but KEEP keys; the table shrinks step by step
+        for( int i = KEEP; i < NUMS; i++ ) {
+            H.remove( i );
+            if( i % 1000 == 0 )
+                checkCapacity( H, mode, initialCapacity );
+        }
+        H.finishRehash( );
+        if( H.stats( ).capacity( ) >= peakCapacity )
+            System.out.println( "OOPS!!! " + mode + " did not shrink from " + peakCapacity );
+
+        // Each remove can start one more step down, until the initial size
+        for( int i = 0; i < CHURN; i++ ) {
+            H.put( NUMS, 0 );
+            H.remove( NUMS );
+            if( i % 100 == 0 )
+                checkCapacity( H, mode, initialCapacity );
+        }
+        H.finishRehash( );
+        if( H.stats( ).capacity( ) != initialCapacity )
+            System.out.println( "OOPS!!! " + mode + " capacity " + H.stats( ).capacity( )
+                    + ", initial " + initialCapacity );
+
+        // The kept keys survived every rehash
+        if( H.size( ) != KEEP )
+            System.out.println( "OOPS!!! " + mode + " size " + H.size( ) );
+        for( int i = 0; i < KEEP; i++ )
+            if( H.getOrDefault( i, 0 ) != -i )
+                System.out.println( "Find fails " + mode + " " + i );
+        for( int i = KEEP; i < NUMS; i += 97 )
+            if( H.containsKey( i ) )
+                System.out.println( "OOPS!!! " + mode + " " + i );
+    }
+
+    /**
+     * Check that a table has not shrunk below its initial capacity.
+     */
+    private static void checkCapacity( SeparateChainingHashMap<Integer, Integer> H,
+                                       SeparateChainingHashMap.IndexMode mode, int initialCapacity ) {
+        if( H.stats( ).capacity( ) < initialCapacity )
+            System.out.println( "OOPS!!! " + mode + " shrank to " + H.stats( ).capacity( )
+                    + " below " + initialCapacity );
+    }
+}
@@ -0,0 +1,124 @@
+/**************************************************************************
+ * @file: TestSwissHashTable.java
+ * @description: Stress test for SwissHashTable, mirroring
+ *               TestSeparateChainingHashTable, then a check of deleted
+ *               slots: removes from full groups leave tombstones, searches
+ *               probe past them, reinserts reuse them, and a table that is
+ *               mostly tombstones is rebuilt at the same size.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+public class TestSwissHashTable {
+    public static void main( String [ ] args ) {
+        SwissHashTable<Integer> H = new SwissHashTable<>( );
+
+        long startTime = System.currentTimeMillis( );
+
+        final int NUMS = 2000000; //
+        final int GAP  =   37; // GAP is the step size
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // Insert NUMS keys, but only NUMS/2 distinct keys
+        for( int i = GAP; i != 0; i = ( i + GAP ) % NUMS )
+            H.insert( i );
+
+        // Remove the even numbers
+        for( int i = 1; i < NUMS; i+= 2 )
+            H.remove( i );
+
+        // Test if the even numbers are still there
+        for( int i = 2; i < NUMS; i+=2 )
+            if( !H.contains( i ) )
+                System.out.println( "Find fails " + i );
+
+        // Test if the odd numbers are still there
+        for( int i = 1; i < NUMS; i+=2 ) {
+            if( H.contains( i ) )
+                System.out.println( "OOPS!!! " +  i  );
+        }
+
+        checkTombstones( );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Churn a small table, comparing it with a HashSet after every
+     * step, until it has rebuilt itself at the same size.
+     */
+    private static void checkTombstones( ) {
+        final int SIZE = 64;     // 8 groups of 8 slots
+        final int FULL = 56;     // the maximum load of 0.875
+        final int LIVE = 27;     // under half the maximum load
+
+        SwissHashTable<Integer> H = new SwissHashTable<>( SIZE );
+        java.util.HashSet<Integer> expected = new java.util.HashSet<>( );
+
+        // Fill the table to its maximum load, so most groups are full
+        for( int i = 0; i < FULL; i++ ) {
+            H.insert( i );
+            expected.add( i );
+        }
+        checkAgainst( H, expected, 2 * FULL );
+
+        // Removes from full groups must leave tombstones
+        for( int i = 0; i < FULL; i += 2 ) {
+            H.remove( i );
+            expected.remove( i );
+        }
+        if( H.deletedCount( ) == 0 )
+            System.out.println( "OOPS!!! no tombstones" );
+        checkAgainst( H, expected, 2 * FULL );
+
+        // Reinserts fill free slots, reusing tombstones, without growing
+        int deleted = H.deletedCount( );
+        for( int i = 0; i < FULL; i += 2 ) {
+            H.insert( i );
+            expected.add( i );
+        }
+        if( H.deletedCount( ) >= deleted || H.capacity( ) != SIZE )
+            System.out.println( "OOPS!!! reinserts made " + H.deletedCount( )
+                    + " tombstones in " + H.capacity( ) + " slots" );
+        checkAgainst( H, expected, 2 * FULL );
+
+        // Shrink to a few live items, then churn: each remove from a full
+        // group adds a tombstone until the same-size rebuild clears them
+        for( int i = LIVE; i < FULL; i++ ) {
+            H.remove( i );
+            expected.remove( i );
+        }
+        java.util.ArrayDeque<Integer> oldest = new java.util.ArrayDeque<>( );
+        for( int i = 0; i < LIVE; i++ )
+            oldest.add( i );
+        boolean rebuilt = false;
+        for( int next = FULL; !rebuilt && next < 100 * FULL; next++ ) {
+            int before = H.deletedCount( );
+            H.insert( next );
+            expected.add( next );
+            oldest.add( next );
+            rebuilt = before + LIVE >= FULL && H.deletedCount( ) == 0;
+
+            int gone = oldest.remove( );
+            H.remove( gone );
+            expected.remove( gone );
+            checkAgainst( H, expected, next + 1 );
+        }
+        if( !rebuilt )
+            System.out.println( "OOPS!!! tombstones never cleared" );
+        if( H.capacity( ) != SIZE )
+            System.out.println( "OOPS!!! rebuild changed the size to " + H.capacity( ) );
+    }
+
+    /**
+     * Check that exactly the expected items from 0 to limit - 1 are found.
+     */
+    private static void checkAgainst( SwissHashTable<Integer> H,
+                                      java.util.Set<Integer> expected, int limit ) {
+        for( int i = 0; i < limit; i++ )
+            if( H.contains( i ) != expected.contains( i ) )
+                System.out.println( ( expected.contains( i ) ? "Find fails " : "OOPS!!! " ) + i );
+    }
+}
@@ -0,0 +1,70 @@
+/**************************************************************************
+ * @file: TestTreeBins.java
+ * @description: Test for tree bins in SeparateChainingHashMap: gdp2025
+ *               records whose country names all share one hash code must
+ *               be found in about log n probes, and must still be after
+ *               the table has grown and finished migrating its buckets.
+ * @author: Ravi Ingle
+ * @date: December 4, 2025
+ **************************************************************************/
+import java.util.ArrayList;
+
+public class TestTreeBins {
+    public static void main( String [ ] args ) {
+        final int PAIRS = 12; // 2^12 colliding keys
+        final int MAX_PROBES = 2 * PAIRS + 2; // an AVL tree is at most ~1.44 log n high
+
+        SeparateChainingHashMap<gdp2025, Integer> H = new SeparateChainingHashMap<>( );
+
+        long startTime = System.currentTimeMillis( );
+
+        System.out.println( "Checking... (no more output means success)" );
+
+        // "Aa" and "BB" hash alike, so all these names share one hash code
+        ArrayList<gdp2025> colliding = new ArrayList<>( );
+        for( int n = 0; n < ( 1 << PAIRS ); n++ ) {
+            StringBuilder country = new StringBuilder( );
+            for( int bit = 0; bit < PAIRS; bit++ )
+                country.append( ( ( n >> bit ) & 1 ) == 0 ? "Aa" : "BB" );
+            colliding.add( new gdp2025( country.toString( ), n ) );
+        }
+        for( gdp2025 item : colliding )
+            H.put( item, item.getGdp( ) );
+        checkProbes( H, colliding, MAX_PROBES, "before resizing" );
+
+        // Ordinary keys until the table grows, then let the migration finish
+        long rehashes = H.stats( ).rehashCount( );
+        for( int i = 0; H.stats( ).rehashCount( ) == rehashes; i++ )
+            H.put( new gdp2025( "Country" + i, i ), i );
+        int capacity = H.stats( ).capacity( );
+        for( int i = 0; i < capacity; i++ )
+            H.get( new gdp2025( "Country0", 0 ) );
+        checkProbes( H, colliding, MAX_PROBES, "after a rehash" );
+
+        // Removing most of the keys turns the bin back into a chain
+        for( int i = 0; i < colliding.size( ) - 4; i++ )
+            if( H.remove( colliding.get( i ) ) != i )
+                System.out.println( "Remove fails " + i );
+        for( int i = colliding.size( ) - 4; i < colliding.size( ); i++ )
+            if( H.get( colliding.get( i ) ) != i )
+                System.out.println( "Find fails " + i );
+
+        long endTime = System.currentTimeMillis( );
+
+        System.out.println( "Elapsed time: " + (endTime - startTime) );
+    }
+
+    /**
+     * Look every colliding key up and check the average probes per hit.
+     */
+    private static void checkProbes( SeparateChainingHashMap<gdp2025, Integer> H,
+                                     ArrayList<gdp2025> colliding, int maxProbes, String when ) {
+        H.resetStats( );
+        for( gdp2025 item : colliding )
+            if( H.get( item ) != item.getGdp( ) )
+                System.out.println( "Find fails " + item );
+        double probes = H.stats( ).averageProbesPerHit( );
+        if( probes > maxProbes )
+            System.out.println( "OOPS!!! " + probes + " probes per hit " + when );
+    }
+}